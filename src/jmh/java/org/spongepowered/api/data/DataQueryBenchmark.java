@@ -0,0 +1,122 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.data;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures {@link DataQuery} construction and deep path lookups through
+ * {@link MemoryDataView}. Run with {@code gradle jmh -PjmhArgs="DataQuery -prof gc"}
+ * to include allocation rates.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DataQueryBenchmark {
+
+    @Param({"2", "8", "16"})
+    public int depth;
+
+    private String path;
+    private DataQuery query;
+    private DataContainer container;
+
+    @Setup
+    public void setup() {
+        final StringBuilder builder = new StringBuilder("root");
+        for (int i = 1; i < this.depth; i++) {
+            builder.append('.').append("node").append(i);
+        }
+        this.path = builder.toString();
+        this.query = DataQuery.of('.', this.path);
+        this.container = DataContainer.createNew(DataView.SafetyMode.NO_DATA_CLONED);
+        this.container.set(this.query, 42);
+    }
+
+    @Benchmark
+    public DataQuery parse() {
+        return DataQuery.of('.', this.path);
+    }
+
+    @Benchmark
+    public void popAll(Blackhole blackhole) {
+        DataQuery current = this.query;
+        while (!current.getParts().isEmpty()) {
+            current = current.pop();
+            blackhole.consume(current);
+        }
+    }
+
+    @Benchmark
+    public void popFirstAll(Blackhole blackhole) {
+        DataQuery current = this.query;
+        while (!current.getParts().isEmpty()) {
+            current = current.popFirst();
+            blackhole.consume(current);
+        }
+    }
+
+    @Benchmark
+    public DataQuery then() {
+        return this.query.then("leaf");
+    }
+
+    @Benchmark
+    public int hash() {
+        return this.query.hashCode();
+    }
+
+    @Benchmark
+    public Object deepGet() {
+        return this.container.get(this.query).get();
+    }
+
+    @Benchmark
+    public boolean deepContains() {
+        return this.container.contains(this.query);
+    }
+
+    @Benchmark
+    public DataView deepSet() {
+        return this.container.set(this.query, 42);
+    }
+
+}
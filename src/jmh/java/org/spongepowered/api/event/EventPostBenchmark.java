@@ -0,0 +1,373 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.event;
+
+import com.google.common.collect.ImmutableList;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.spongepowered.api.block.BlockSnapshot;
+import org.spongepowered.api.data.Transaction;
+import org.spongepowered.api.event.block.ChangeBlockEvent;
+import org.spongepowered.api.event.cause.Cause;
+import org.spongepowered.api.event.filter.Getter;
+import org.spongepowered.api.event.filter.IsCancelled;
+import org.spongepowered.api.event.filter.cause.First;
+import org.spongepowered.api.event.filter.type.Include;
+import org.spongepowered.api.util.Tristate;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import java.lang.reflect.Parameter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * Measures posting {@link ChangeBlockEvent.Break} events created by the
+ * {@link SpongeEventFactory} per number of listeners and per combination of
+ * listener filters, as well as posting a batch of events one at a time
+ * compared to {@link EventHandlers#postBatch(List)}.
+ *
+ * <p>The API does not contain an {@link EventManager}, so the listeners are
+ * compiled by a minimal dispatcher of the benchmark: the filters of each
+ * {@link Listener} method are resolved once at registration, and the
+ * method is called through a {@link MethodHandle}.</p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EventPostBenchmark {
+
+    private static final int BATCH_SIZE = 1000;
+
+    @Param({"1", "10", "100"})
+    public int listeners;
+
+    @Param({"none", "first", "getter", "include", "cancelled", "all"})
+    public String filters;
+
+    private Handlers handlers;
+    private ChangeBlockEvent.Break event;
+    private List<ChangeBlockEvent.Break> batch;
+
+    @Setup
+    public void setup() throws Exception {
+        final List<EventListener<? super ChangeBlockEvent.Break>> compiled = new ArrayList<>();
+        for (int i = 0; i < this.listeners; i++) {
+            compiled.addAll(compile(createListener(this.filters)));
+        }
+        this.handlers = new Handlers(compiled);
+        this.event = SpongeEventFactory.createChangeBlockEventBreak(Cause.source("benchmark").build(), ImmutableList.of());
+        this.batch = new ArrayList<>();
+        for (int i = 0; i < BATCH_SIZE; i++) {
+            this.batch.add(SpongeEventFactory.createChangeBlockEventBreak(Cause.source("benchmark").build(), ImmutableList.of()));
+        }
+    }
+
+    @Benchmark
+    public boolean post() {
+        return this.handlers.post(this.event);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH_SIZE)
+    public boolean postEach() {
+        boolean cancelled = false;
+        for (ChangeBlockEvent.Break event : this.batch) {
+            cancelled |= this.handlers.post(event);
+        }
+        return cancelled;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH_SIZE)
+    public boolean postBatch() {
+        return this.handlers.postBatch(this.batch);
+    }
+
+    private static Object createListener(String filters) {
+        switch (filters) {
+            case "none":
+                return new PlainListener();
+            case "first":
+                return new FirstListener();
+            case "getter":
+                return new GetterListener();
+            case "include":
+                return new IncludeListener();
+            case "cancelled":
+                return new CancelledListener();
+            case "all":
+                return new AllFiltersListener();
+            default:
+                throw new IllegalArgumentException("Unknown filters: " + filters);
+        }
+    }
+
+    /**
+     * Compiles the {@link Listener} methods of the given object, which
+     * listen to {@link ChangeBlockEvent.Break} or one of its super types.
+     */
+    private static List<EventListener<ChangeBlockEvent.Break>> compile(Object listener) throws ReflectiveOperationException {
+        final MethodHandles.Lookup lookup = MethodHandles.publicLookup();
+        final List<EventListener<ChangeBlockEvent.Break>> compiled = new ArrayList<>();
+        for (Method method : listener.getClass().getMethods()) {
+            if (!method.isAnnotationPresent(Listener.class)
+                    || !method.getParameterTypes()[0].isAssignableFrom(ChangeBlockEvent.Break.class)) {
+                continue;
+            }
+            Predicate<ChangeBlockEvent.Break> filter = event -> true;
+            final Include include = method.getAnnotation(Include.class);
+            if (include != null) {
+                final Class<?>[] types = include.value();
+                filter = filter.and(event -> {
+                    for (Class<?> type : types) {
+                        if (type.isInstance(event)) {
+                            return true;
+                        }
+                    }
+                    return false;
+                });
+            }
+            final IsCancelled isCancelled = method.getAnnotation(IsCancelled.class);
+            final Tristate cancelled = isCancelled == null ? Tristate.FALSE : isCancelled.value();
+            if (cancelled != Tristate.UNDEFINED) {
+                filter = filter.and(event -> event.isCancelled() == cancelled.asBoolean());
+            }
+
+            final Parameter[] parameters = method.getParameters();
+            final List<Function<ChangeBlockEvent.Break, Optional<?>>> arguments = new ArrayList<>();
+            arguments.add(Optional::of);
+            for (int i = 1; i < parameters.length; i++) {
+                final Class<?> type = parameters[i].getType();
+                final First first = parameters[i].getAnnotation(First.class);
+                final Getter getter = parameters[i].getAnnotation(Getter.class);
+                if (first != null) {
+                    arguments.add(event -> event.getCause().first(type));
+                } else if (getter != null) {
+                    final MethodHandle handle = lookup.unreflect(ChangeBlockEvent.Break.class.getMethod(getter.value()))
+                            .asType(MethodType.methodType(Object.class, ChangeBlockEvent.Break.class));
+                    arguments.add(event -> Optional.ofNullable(invokeGetter(handle, event)));
+                } else {
+                    throw new IllegalArgumentException("Parameter " + i + " of " + method + " has no filter");
+                }
+            }
+            final MethodHandle handle = lookup.unreflect(method).bindTo(listener)
+                    .asSpreader(Object[].class, parameters.length)
+                    .asType(MethodType.methodType(void.class, Object[].class));
+            compiled.add(new CompiledListener(filter, arguments, handle));
+        }
+        return compiled;
+    }
+
+    private static Object invokeGetter(MethodHandle handle, ChangeBlockEvent.Break event) {
+        try {
+            return (Object) handle.invokeExact(event);
+        } catch (Throwable t) {
+            throw new IllegalStateException(t);
+        }
+    }
+
+    private static final class CompiledListener implements EventListener<ChangeBlockEvent.Break> {
+
+        private final Predicate<ChangeBlockEvent.Break> filter;
+        private final List<Function<ChangeBlockEvent.Break, Optional<?>>> arguments;
+        private final MethodHandle handle;
+
+        CompiledListener(Predicate<ChangeBlockEvent.Break> filter, List<Function<ChangeBlockEvent.Break, Optional<?>>> arguments,
+                MethodHandle handle) {
+            this.filter = filter;
+            this.arguments = arguments;
+            this.handle = handle;
+        }
+
+        @Override
+        public void handle(ChangeBlockEvent.Break event) throws Exception {
+            if (!this.filter.test(event)) {
+                return;
+            }
+            final Object[] args = new Object[this.arguments.size()];
+            for (int i = 0; i < args.length; i++) {
+                final Optional<?> argument = this.arguments.get(i).apply(event);
+                if (!argument.isPresent()) {
+                    return;
+                }
+                args[i] = argument.get();
+            }
+            try {
+                this.handle.invokeExact(args);
+            } catch (Exception | Error e) {
+                throw e;
+            } catch (Throwable t) {
+                throw new IllegalStateException(t);
+            }
+        }
+    }
+
+    private static final class Handlers implements EventHandlers<ChangeBlockEvent.Break> {
+
+        private final EventListener<? super ChangeBlockEvent.Break>[] listeners;
+
+        @SuppressWarnings({"unchecked", "rawtypes"})
+        Handlers(List<EventListener<? super ChangeBlockEvent.Break>> listeners) {
+            this.listeners = listeners.toArray(new EventListener[listeners.size()]);
+        }
+
+        @Override
+        public Class<ChangeBlockEvent.Break> getEventClass() {
+            return ChangeBlockEvent.Break.class;
+        }
+
+        @Override
+        public int size() {
+            return this.listeners.length;
+        }
+
+        @Override
+        public EventListener<? super ChangeBlockEvent.Break> get(int index) {
+            return this.listeners[index];
+        }
+
+        @Override
+        public boolean post(ChangeBlockEvent.Break event) {
+            for (EventListener<? super ChangeBlockEvent.Break> listener : this.listeners) {
+                call(listener, event);
+            }
+            return event.isCancelled();
+        }
+
+        @Override
+        public boolean postBatch(List<? extends ChangeBlockEvent.Break> events) {
+            for (EventListener<? super ChangeBlockEvent.Break> listener : this.listeners) {
+                for (ChangeBlockEvent.Break event : events) {
+                    call(listener, event);
+                }
+            }
+            boolean cancelled = false;
+            for (ChangeBlockEvent.Break event : events) {
+                cancelled |= event.isCancelled();
+            }
+            return cancelled;
+        }
+
+        private static void call(EventListener<? super ChangeBlockEvent.Break> listener, ChangeBlockEvent.Break event) {
+            try {
+                listener.handle(event);
+            } catch (Exception e) {
+                throw new IllegalStateException(e);
+            }
+        }
+    }
+
+    public static class PlainListener {
+
+        public int calls;
+
+        @Listener
+        public void onBreak(ChangeBlockEvent.Break event) {
+            this.calls++;
+        }
+
+    }
+
+    public static class FirstListener {
+
+        public int calls;
+
+        @Listener
+        public void onBreak(ChangeBlockEvent.Break event, @First String source) {
+            this.calls++;
+        }
+
+    }
+
+    public static class GetterListener {
+
+        public int calls;
+
+        @Listener
+        public void onBreak(ChangeBlockEvent.Break event, @Getter("getTransactions") List<Transaction<BlockSnapshot>> transactions) {
+            this.calls++;
+        }
+
+    }
+
+    public static class IncludeListener {
+
+        public int calls;
+
+        @Listener
+        @Include(ChangeBlockEvent.Break.class)
+        public void onChange(ChangeBlockEvent event) {
+            this.calls++;
+        }
+
+    }
+
+    public static class CancelledListener {
+
+        public int calls;
+
+        @Listener
+        @IsCancelled(Tristate.UNDEFINED)
+        public void onBreak(ChangeBlockEvent.Break event) {
+            this.calls++;
+        }
+
+    }
+
+    public static class AllFiltersListener {
+
+        public int calls;
+
+        @Listener
+        @Include(ChangeBlockEvent.Break.class)
+        @IsCancelled(Tristate.FALSE)
+        public void onChange(ChangeBlockEvent event, @First String source,
+                @Getter("getTransactions") List<Transaction<BlockSnapshot>> transactions) {
+            this.calls++;
+        }
+
+    }
+
+}
@@ -0,0 +1,99 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.event.cause;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Simulates the {@link Cause} lookups of listener filters such as
+ * {@code @First}, {@code @Last}, {@code @Named} and {@code @Root}, which
+ * query the same cause once per listener of an event, as well as building
+ * the causes themselves.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CauseLookupBenchmark {
+
+    @Param({"2", "8"})
+    public int size;
+
+    @Param({"1", "20"})
+    public int listeners;
+
+    private Cause cause;
+
+    @Setup
+    public void setup() {
+        this.cause = build();
+    }
+
+    private Cause build() {
+        final Cause.Builder builder = Cause.source(new Object()).owner(this);
+        for (int i = 2; i < this.size; i++) {
+            builder.named("Cause" + i, i % 2 == 0 ? Integer.valueOf(i) : "Cause" + i);
+        }
+        return builder.build();
+    }
+
+    @Benchmark
+    public void filters(Blackhole blackhole) {
+        // Every listener of the event queries the same cause
+        for (int i = 0; i < this.listeners; i++) {
+            blackhole.consume(this.cause.first(String.class));
+            blackhole.consume(this.cause.last(Integer.class));
+            blackhole.consume(this.cause.get(NamedCause.OWNER, CauseLookupBenchmark.class));
+            blackhole.consume(this.cause.containsType(Double.class));
+        }
+    }
+
+    @Benchmark
+    public void buildAndFilter(Blackhole blackhole) {
+        final Cause cause = build();
+        for (int i = 0; i < this.listeners; i++) {
+            blackhole.consume(cause.first(String.class));
+            blackhole.consume(cause.last(Integer.class));
+            blackhole.consume(cause.get(NamedCause.OWNER, CauseLookupBenchmark.class));
+            blackhole.consume(cause.containsType(Double.class));
+        }
+    }
+
+}
@@ -0,0 +1,187 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.service.ban;
+
+import com.google.common.collect.ImmutableMap;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.spongepowered.api.profile.GameProfile;
+import org.spongepowered.api.util.ban.Ban;
+
+import java.lang.reflect.Proxy;
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Replays a storm of logins against a set of profile and IP bans, most of
+ * them by profiles and addresses which are not banned, comparing the
+ * {@link BanIndex} with scanning all bans, as a {@link BanService} without
+ * an index would. Loading all bans into a new index, as done on startup, is
+ * measured both one ban at a time and through {@link BanIndex#addAll}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BanLookupBenchmark {
+
+    private static final int LOGINS = 4096;
+
+    @Param({"100", "10000", "100000"})
+    public int bans;
+
+    private final List<Ban.Profile> profileBans = new ArrayList<>();
+    private final List<Ban.Ip> ipBans = new ArrayList<>();
+    private final BanIndex index = new BanIndex();
+    private final UUID[] profiles = new UUID[LOGINS];
+    private final InetAddress[] addresses = new InetAddress[LOGINS];
+    private int login;
+
+    @Setup
+    public void setup() throws UnknownHostException {
+        final Random random = new Random(0);
+        for (int i = 0; i < this.bans; i++) {
+            final UUID uniqueId = new UUID(random.nextLong(), random.nextLong());
+            final GameProfile profile = proxy(GameProfile.class, ImmutableMap.of("getUniqueId", uniqueId));
+            this.profileBans.add(proxy(Ban.Profile.class, ImmutableMap.of("getProfile", profile)));
+            // Every tenth ban covers a /24 range
+            final InetAddress address = InetAddress.getByAddress(randomAddress(random));
+            this.ipBans.add(proxy(Ban.Ip.class, ImmutableMap.of("getAddress", address, "getPrefixLength", i % 10 == 0 ? 24 : 32)));
+        }
+        this.index.addAll(this.profileBans);
+        this.index.addAll(this.ipBans);
+        for (int i = 0; i < LOGINS; i++) {
+            // One in a hundred logins is by a banned profile
+            this.profiles[i] = i % 100 == 0 ? this.profileBans.get(i % this.bans).getProfile().getUniqueId()
+                    : new UUID(random.nextLong(), random.nextLong());
+            this.addresses[i] = InetAddress.getByAddress(randomAddress(random));
+        }
+    }
+
+    private static byte[] randomAddress(Random random) {
+        final byte[] address = new byte[4];
+        random.nextBytes(address);
+        return address;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T proxy(Class<T> type, Map<String, Object> values) {
+        return (T) Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[] {type}, (proxy, method, args) -> {
+            switch (method.getName()) {
+                case "getExpirationDate":
+                    return Optional.empty();
+                case "hashCode":
+                    return System.identityHashCode(proxy);
+                case "equals":
+                    return proxy == args[0];
+                default:
+                    return values.get(method.getName());
+            }
+        });
+    }
+
+    private int nextLogin() {
+        return this.login = (this.login + 1) & (LOGINS - 1);
+    }
+
+    @Benchmark
+    public void index(Blackhole blackhole) {
+        final int login = nextLogin();
+        blackhole.consume(this.index.getBanFor(this.profiles[login]));
+        blackhole.consume(this.index.getBanFor(this.addresses[login]));
+    }
+
+    @Benchmark
+    public BanIndex load() {
+        final BanIndex index = new BanIndex();
+        index.addAll(this.profileBans);
+        index.addAll(this.ipBans);
+        return index;
+    }
+
+    @Benchmark
+    public BanIndex loadEach() {
+        final BanIndex index = new BanIndex();
+        this.profileBans.forEach(index::add);
+        this.ipBans.forEach(index::add);
+        return index;
+    }
+
+    @Benchmark
+    public void scan(Blackhole blackhole) {
+        final int login = nextLogin();
+        final UUID uniqueId = this.profiles[login];
+        Optional<Ban.Profile> profileBan = Optional.empty();
+        for (Ban.Profile ban : this.profileBans) {
+            if (ban.getProfile().getUniqueId().equals(uniqueId)) {
+                profileBan = Optional.of(ban);
+                break;
+            }
+        }
+        blackhole.consume(profileBan);
+        final byte[] address = this.addresses[login].getAddress();
+        Optional<Ban.Ip> ipBan = Optional.empty();
+        for (Ban.Ip ban : this.ipBans) {
+            if (matches(ban.getAddress().getAddress(), address, ban.getPrefixLength())) {
+                ipBan = Optional.of(ban);
+                break;
+            }
+        }
+        blackhole.consume(ipBan);
+    }
+
+    private static boolean matches(byte[] range, byte[] address, int prefixLength) {
+        if (range.length != address.length) {
+            return false;
+        }
+        for (int i = 0; i < prefixLength; i++) {
+            final int shift = 7 - (i & 7);
+            if (((range[i >> 3] >> shift) & 1) != ((address[i >> 3] >> shift) & 1)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+}
@@ -33,6 +33,7 @@
 import org.spongepowered.api.data.property.PropertyRegistry;
 import org.spongepowered.api.data.property.PropertyStore;
 import org.spongepowered.api.event.EventManager;
+import org.spongepowered.api.event.cause.CauseStack;
 import org.spongepowered.api.network.ChannelRegistrar;
 import org.spongepowered.api.plugin.PluginManager;
 import org.spongepowered.api.scheduler.Scheduler;
@@ -171,6 +172,15 @@ default EventManager getEventManager() {
         return Sponge.getEventManager();
     }
 
+    /**
+     * Gets the {@link CauseStack} of the server thread.
+     *
+     * @return The cause stack
+     */
+    default CauseStack getCauseStack() {
+        return Sponge.getCauseStack();
+    }
+
     /**
      * Gets the {@link AssetManager}.
      *
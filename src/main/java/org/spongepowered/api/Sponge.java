@@ -34,6 +34,8 @@
 import org.spongepowered.api.data.property.PropertyRegistry;
 import org.spongepowered.api.data.property.PropertyStore;
 import org.spongepowered.api.event.EventManager;
+import org.spongepowered.api.event.cause.Cause;
+import org.spongepowered.api.event.cause.CauseStack;
 import org.spongepowered.api.network.ChannelRegistrar;
 import org.spongepowered.api.plugin.PluginManager;
 import org.spongepowered.api.scheduler.Scheduler;
@@ -60,6 +62,7 @@ public final class Sponge {
 
     @Inject private static PluginManager pluginManager;
     @Inject private static EventManager eventManager;
+    @Inject private static CauseStack causeStack;
     @Inject private static AssetManager assetManager;
     @Inject private static ConfigManager configManager;
     @Inject private static CommandManager commandManager;
@@ -145,6 +148,16 @@ public static EventManager getEventManager() {
         return check(eventManager);
     }
 
+    /**
+     * Gets the {@link CauseStack} of the server thread, from which the
+     * {@link Cause} of events posted on the server thread is built.
+     *
+     * @return The cause stack instance
+     */
+    public static CauseStack getCauseStack() {
+        return check(causeStack);
+    }
+
     /**
      * Gets the {@link AssetManager} instance.
      *
@@ -30,11 +30,13 @@
 import org.spongepowered.api.data.manipulator.ImmutableDataManipulatorBuilder;
 import org.spongepowered.api.data.persistence.DataBuilder;
 import org.spongepowered.api.data.persistence.DataContentUpdater;
+import org.spongepowered.api.data.persistence.DataContentUpdaterChain;
 import org.spongepowered.api.data.persistence.DataTranslator;
 import org.spongepowered.api.plugin.PluginContainer;
 
 import java.util.Collection;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 /**
  * A manager of the overall Data API. This handles the registration of
@@ -89,6 +91,42 @@ public interface DataManager {
      */
     <T extends DataSerializable> Optional<DataContentUpdater> getWrappedContentUpdater(Class<T> clazz, int fromVersion, int toVersion);
 
+    /**
+     * Gets the compiled {@link DataContentUpdaterChain} translating versioned
+     * data of the desired {@link DataSerializable} from the
+     * {@code fromVersion} to the {@code toVersion}. Chains are resolved once
+     * per class and version jump and cached, such that repeated calls return
+     * the same chain until another {@link DataContentUpdater} is registered
+     * for the class. If a {@link DataContentUpdater} has not been registered
+     * to cover the complete jump, {@link Optional#empty()} is returned.
+     *
+     * @param clazz The data serializable class
+     * @param fromVersion The version converting from
+     * @param toVersion The version converting to
+     * @param <T> The type of data serializable
+     * @return The compiled content updater chain, if available
+     */
+    <T extends DataSerializable> Optional<DataContentUpdaterChain> getContentUpdaterChain(Class<T> clazz, int fromVersion, int toVersion);
+
+    /**
+     * Pushes all of the provided {@link DataView}s through the cached
+     * {@link DataContentUpdaterChain} of the desired
+     * {@link DataSerializable} in parallel. The per hop update counts are
+     * available from {@link #getContentUpdaterChain(Class, int, int)}.
+     *
+     * @param clazz The data serializable class
+     * @param fromVersion The version converting from
+     * @param toVersion The version converting to
+     * @param contents The views to update
+     * @param <T> The type of data serializable
+     * @return The stream of updated views, if a chain is available
+     * @see DataContentUpdaterChain#updateAll(Stream)
+     */
+    default <T extends DataSerializable> Optional<Stream<DataView>> updateAll(Class<T> clazz, int fromVersion, int toVersion,
+            Stream<? extends DataView> contents) {
+        return getContentUpdaterChain(clazz, fromVersion, toVersion).map(chain -> chain.updateAll(contents));
+    }
+
     /**
      * Attempts to retrieve the {@link DataBuilder} for the desired
      * {@link DataSerializable} class.
@@ -25,57 +25,54 @@
 package org.spongepowered.api.data;
 
 import com.google.common.base.Joiner;
-import com.google.common.base.Objects;
 import com.google.common.collect.ImmutableList;
+import com.google.common.collect.Interner;
+import com.google.common.collect.Interners;
 
+import java.util.ArrayList;
 import java.util.List;
-import java.util.regex.Pattern;
+
+import javax.annotation.Nullable;
 
 /**
  * Represents a query that can be done on views. Queries do not depend on
  * their separator, it is just a way to construct them.
+ *
+ * <p>Queries are immutable and cache their hash code, as well as their
+ * {@link #pop() parent} and {@link #popFirst() child} queries once they
+ * are first requested. Frequently used queries may additionally be
+ * {@link #intern() interned} so that the same instance is shared by all
+ * callers, which allows equality checks to be resolved by identity.</p>
  */
 public final class DataQuery {
 
-    private static final DataQuery EMPTY = new DataQuery();
+    private static final DataQuery EMPTY = new DataQuery(ImmutableList.of());
+
+    private static final Interner<DataQuery> INTERNER = Interners.newWeakInterner();
 
     /**
      * The parts that make up this query.
      */
     private final ImmutableList<String> parts;
 
-    private ImmutableList<DataQuery> queryParts; //lazy loaded
-
     /**
-     * Constructs a query using the given separator character and path.
-     *
-     * <p>As an example, {@code new DataQuery('/', "a/b/c")} and
-     * {@code new DataQuery('.', "a.b.c")} represent the same path but are
-     * constructed using different separators.</p>
-     *
-     * @param separator The separator
-     * @param path The path
+     * The cached hash code of the parts.
      */
-    private DataQuery(char separator, String path) {
-        this(path.split(Pattern.quote(String.valueOf(separator))));
-    }
+    private final int hash;
 
-    /**
-     * Constructs a query using the given parts.
-     *
-     * @param parts The parts
-     */
-    private DataQuery(String... parts) {
-        this.parts = ImmutableList.copyOf(parts);
-    }
+    private ImmutableList<DataQuery> queryParts; //lazy loaded
+    @Nullable private DataQuery parent; //lazy loaded
+    @Nullable private DataQuery child; //lazy loaded
+    private boolean interned;
 
     /**
      * Constructs a query using the given parts.
      *
      * @param parts The parts
      */
-    private DataQuery(List<String> parts) {
-        this.parts = ImmutableList.copyOf(parts);
+    private DataQuery(ImmutableList<String> parts) {
+        this.parts = parts;
+        this.hash = parts.hashCode();
     }
 
     /**
@@ -101,7 +98,7 @@ public static DataQuery of() {
      * @return The newly constructed {@link DataQuery}
      */
     public static DataQuery of(char separator, String path) {
-        return new DataQuery(separator, path);
+        return new DataQuery(split(separator, path));
     }
 
     /**
@@ -114,7 +111,7 @@ public static DataQuery of(String... parts) {
         if (parts.length == 0) {
             return DataQuery.EMPTY;
         }
-        return new DataQuery(parts);
+        return new DataQuery(ImmutableList.copyOf(parts));
     }
 
     /**
@@ -127,7 +124,7 @@ public static DataQuery of(List<String> parts) {
         if (parts.isEmpty()) {
             return DataQuery.EMPTY;
         }
-        return new DataQuery(parts);
+        return new DataQuery(ImmutableList.copyOf(parts));
     }
 
     /**
@@ -147,13 +144,21 @@ public List<String> getParts() {
      * @return The constructed query
      */
     public DataQuery then(DataQuery that) {
-        ImmutableList.Builder<String> builder =
-            new ImmutableList.Builder<>();
-
-        builder.addAll(this.parts);
-        builder.addAll(that.parts);
-
-        return new DataQuery(builder.build());
+        if (that.parts.isEmpty()) {
+            return this;
+        }
+        if (this.parts.isEmpty()) {
+            return that;
+        }
+        final String[] joined = new String[this.parts.size() + that.parts.size()];
+        int index = 0;
+        for (String part : this.parts) {
+            joined[index++] = part;
+        }
+        for (String part : that.parts) {
+            joined[index++] = part;
+        }
+        return new DataQuery(ImmutableList.copyOf(joined));
     }
 
     /**
@@ -164,13 +169,15 @@ public DataQuery then(DataQuery that) {
      * @return The constructed query
      */
     public DataQuery then(String that) {
-        ImmutableList.Builder<String> builder =
-            new ImmutableList.Builder<>();
-
-        builder.addAll(this.parts);
-        builder.add(that);
-
-        return new DataQuery(builder.build());
+        final String[] joined = new String[this.parts.size() + 1];
+        int index = 0;
+        for (String part : this.parts) {
+            joined[index++] = part;
+        }
+        joined[index] = that;
+        final DataQuery query = new DataQuery(ImmutableList.copyOf(joined));
+        query.parent = this;
+        return query;
     }
 
     /**
@@ -181,11 +188,15 @@ public DataQuery then(String that) {
      */
     public List<DataQuery> getQueryParts() {
         if (this.queryParts == null) {
-            ImmutableList.Builder<DataQuery> builder = ImmutableList.builder();
-            for (String part : getParts()) {
-                builder.add(new DataQuery(part));
+            if (this.parts.size() == 1) {
+                this.queryParts = ImmutableList.of(this);
+            } else {
+                ImmutableList.Builder<DataQuery> builder = ImmutableList.builder();
+                for (String part : this.parts) {
+                    builder.add(new DataQuery(ImmutableList.of(part)).intern());
+                }
+                this.queryParts = builder.build();
             }
-            this.queryParts = builder.build();
         }
         return this.queryParts;
     }
@@ -195,17 +206,19 @@ public List<DataQuery> getQueryParts() {
      * query is already the top level query, then the {@link DataQuery#of()} is
      * returned.
      *
+     * <p>The returned query is cached, repeated calls return the same
+     * instance.</p>
+     *
      * @return The next level query
      */
     public DataQuery pop() {
         if (this.parts.size() <= 1) {
             return of();
         }
-        ImmutableList.Builder<String> builder = ImmutableList.builder();
-        for (int i = 0; i < this.parts.size() - 1; i++) {
-            builder.add(this.parts.get(i));
+        if (this.parent == null) {
+            this.parent = new DataQuery(this.parts.subList(0, this.parts.size() - 1));
         }
-        return new DataQuery(builder.build());
+        return this.parent;
     }
 
     /**
@@ -213,17 +226,19 @@ public DataQuery pop() {
      * query is already the top level query, then the {@link DataQuery#of()} is
      * returned.
      *
+     * <p>The returned query is cached, repeated calls return the same
+     * instance.</p>
+     *
      * @return The next level query
      */
     public DataQuery popFirst() {
         if (this.parts.size() <= 1) {
             return of();
         }
-        ImmutableList.Builder<String> builder = ImmutableList.builder();
-        for (int i = 1; i < this.parts.size(); i++) {
-            builder.add(this.parts.get(i));
+        if (this.child == null) {
+            this.child = new DataQuery(this.parts.subList(1, this.parts.size()));
         }
-        return new DataQuery(builder.build());
+        return this.child;
     }
 
     /**
@@ -236,7 +251,25 @@ public DataQuery last() {
         if (this.parts.size() <= 1) {
             return this;
         }
-        return new DataQuery(this.parts.get(this.parts.size() - 1));
+        return getQueryParts().get(this.parts.size() - 1);
+    }
+
+    /**
+     * Gets the canonical instance of this query. Two equal queries that are
+     * both interned are guaranteed to be the same instance.
+     *
+     * <p>Interned queries are only weakly held, and will be discarded once
+     * no longer referenced elsewhere.</p>
+     *
+     * @return The canonical instance of this query
+     */
+    public DataQuery intern() {
+        if (this.interned) {
+            return this;
+        }
+        final DataQuery canonical = INTERNER.intern(this);
+        canonical.interned = true;
+        return canonical;
     }
 
     /**
@@ -266,7 +299,7 @@ public String toString() {
 
     @Override
     public int hashCode() {
-        return Objects.hashCode(this.parts);
+        return this.hash;
     }
 
     @Override
@@ -278,6 +311,38 @@ public boolean equals(Object obj) {
             return false;
         }
         final DataQuery other = (DataQuery) obj;
-        return Objects.equal(this.parts, other.parts);
+        if (this.hash != other.hash || (this.interned && other.interned)) {
+            return false;
+        }
+        return this.parts.equals(other.parts);
+    }
+
+    /**
+     * Splits the given path by the separator character, following the same
+     * rules as {@link String#split(String)} without compiling a pattern.
+     * Trailing empty parts are discarded.
+     *
+     * @param separator The separator
+     * @param path The path
+     * @return The parts of the path
+     */
+    private static ImmutableList<String> split(char separator, String path) {
+        int next = path.indexOf(separator);
+        if (next < 0) {
+            return ImmutableList.of(path);
+        }
+        final List<String> parts = new ArrayList<>();
+        int start = 0;
+        while (next >= 0) {
+            parts.add(path.substring(start, next));
+            start = next + 1;
+            next = path.indexOf(separator, start);
+        }
+        parts.add(path.substring(start));
+        int size = parts.size();
+        while (size > 0 && parts.get(size - 1).isEmpty()) {
+            size--;
+        }
+        return ImmutableList.copyOf(parts.subList(0, size));
     }
 }
@@ -30,13 +30,19 @@
 import org.spongepowered.api.data.key.Key;
 import org.spongepowered.api.data.persistence.DataBuilder;
 import org.spongepowered.api.data.persistence.DataTranslator;
+import org.spongepowered.api.data.persistence.DataViewWriter;
 import org.spongepowered.api.data.value.BaseValue;
 
+import java.io.IOException;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.stream.DoubleStream;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
 
 /**
  * Represents an object of data represented by a map.
@@ -473,6 +479,86 @@ default boolean contains(Key<?> key, Key<?>... keys) {
      */
     Optional<List<Double>> getDoubleList(DataQuery path);
 
+    /**
+     * Gets the {@code int} array by path, if available.
+     *
+     * <p>Values stored as an {@code int}, {@code short} or {@code byte}
+     * array, or as a {@link List} of {@link Number}s, are converted without
+     * boxing. If the data residing at the path is none of these, an absent
+     * is returned.</p>
+     *
+     * @param path The path of the value to get
+     * @return The int array, if available
+     */
+    default Optional<int[]> getIntArray(DataQuery path) {
+        return get(path).flatMap(PrimitiveArrays::toIntArray);
+    }
+
+    /**
+     * Gets the {@code long} array by path, if available.
+     *
+     * <p>Values stored as a {@code long} or {@code int} array, or as a
+     * {@link List} of {@link Number}s, are converted without boxing. If the
+     * data residing at the path is none of these, an absent is returned.</p>
+     *
+     * @param path The path of the value to get
+     * @return The long array, if available
+     */
+    default Optional<long[]> getLongArray(DataQuery path) {
+        return get(path).flatMap(PrimitiveArrays::toLongArray);
+    }
+
+    /**
+     * Gets the {@code double} array by path, if available.
+     *
+     * <p>Values stored as a {@code double}, {@code float}, {@code int} or
+     * {@code long} array, or as a {@link List} of {@link Number}s, are
+     * converted without boxing. If the data residing at the path is none of
+     * these, an absent is returned.</p>
+     *
+     * @param path The path of the value to get
+     * @return The double array, if available
+     */
+    default Optional<double[]> getDoubleArray(DataQuery path) {
+        return get(path).flatMap(PrimitiveArrays::toDoubleArray);
+    }
+
+    /**
+     * Gets an {@link IntStream} over the values by path, if available. The
+     * same values are supported as for {@link #getIntArray(DataQuery)}, a
+     * stored {@code int} array is streamed without being copied.
+     *
+     * @param path The path of the value to get
+     * @return The stream of ints, if available
+     */
+    default Optional<IntStream> getIntStream(DataQuery path) {
+        return getIntArray(path).map(Arrays::stream);
+    }
+
+    /**
+     * Gets a {@link LongStream} over the values by path, if available. The
+     * same values are supported as for {@link #getLongArray(DataQuery)}, a
+     * stored {@code long} array is streamed without being copied.
+     *
+     * @param path The path of the value to get
+     * @return The stream of longs, if available
+     */
+    default Optional<LongStream> getLongStream(DataQuery path) {
+        return getLongArray(path).map(Arrays::stream);
+    }
+
+    /**
+     * Gets a {@link DoubleStream} over the values by path, if available. The
+     * same values are supported as for {@link #getDoubleArray(DataQuery)}, a
+     * stored {@code double} array is streamed without being copied.
+     *
+     * @param path The path of the value to get
+     * @return The stream of doubles, if available
+     */
+    default Optional<DoubleStream> getDoubleStream(DataQuery path) {
+        return getDoubleArray(path).map(Arrays::stream);
+    }
+
     /**
      * Gets the {@link List} of {@link Map} by path, if available.
      *
@@ -631,6 +717,24 @@ default boolean contains(Key<?> key, Key<?>... keys) {
      */
     boolean isEmpty();
 
+    /**
+     * Writes the contents of this view to the given {@link DataViewWriter}.
+     *
+     * <p>Views holding data that is already encoded may override this to
+     * hand it to the writer without encoding it again.</p>
+     *
+     * @param writer The writer
+     * @throws IOException If there was an error writing to the writer
+     */
+    default void writeTo(DataViewWriter writer) throws IOException {
+        writer.beginView();
+        for (DataQuery key : getKeys(false)) {
+            writer.key(key.asString('.'));
+            writer.writeValue(get(key).get());
+        }
+        writer.endView();
+    }
+
     /**
      * Gets the {@link org.spongepowered.api.data.DataView.SafetyMode} of this data view.
      *
@@ -0,0 +1,136 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.data;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Converts the values of a {@link DataView} to primitive arrays without
+ * boxing their elements.
+ */
+final class PrimitiveArrays {
+
+    /**
+     * Converts an {@code int}, {@code short} or {@code byte} array, or a
+     * {@link List} of {@link Number}s, to an {@code int} array. A stored
+     * {@code int} array is returned as is.
+     */
+    static Optional<int[]> toIntArray(Object obj) {
+        if (obj instanceof int[]) {
+            return Optional.of((int[]) obj);
+        } else if (obj instanceof short[]) {
+            final short[] source = (short[]) obj;
+            final int[] array = new int[source.length];
+            for (int i = 0; i < source.length; i++) {
+                array[i] = source[i];
+            }
+            return Optional.of(array);
+        } else if (obj instanceof byte[]) {
+            final byte[] source = (byte[]) obj;
+            final int[] array = new int[source.length];
+            for (int i = 0; i < source.length; i++) {
+                array[i] = source[i];
+            }
+            return Optional.of(array);
+        } else if (obj instanceof List<?>) {
+            final List<?> list = (List<?>) obj;
+            final int[] array = new int[list.size()];
+            for (int i = 0; i < array.length; i++) {
+                final Object element = list.get(i);
+                if (!(element instanceof Number)) {
+                    return Optional.empty();
+                }
+                array[i] = ((Number) element).intValue();
+            }
+            return Optional.of(array);
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * Converts a {@code long} or {@code int} array, or a {@link List} of
+     * {@link Number}s, to a {@code long} array. A stored {@code long} array
+     * is returned as is.
+     */
+    static Optional<long[]> toLongArray(Object obj) {
+        if (obj instanceof long[]) {
+            return Optional.of((long[]) obj);
+        } else if (obj instanceof int[]) {
+            return Optional.of(Arrays.stream((int[]) obj).asLongStream().toArray());
+        } else if (obj instanceof List<?>) {
+            final List<?> list = (List<?>) obj;
+            final long[] array = new long[list.size()];
+            for (int i = 0; i < array.length; i++) {
+                final Object element = list.get(i);
+                if (!(element instanceof Number)) {
+                    return Optional.empty();
+                }
+                array[i] = ((Number) element).longValue();
+            }
+            return Optional.of(array);
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * Converts a {@code double}, {@code float}, {@code int} or {@code long}
+     * array, or a {@link List} of {@link Number}s, to a {@code double} array.
+     * A stored {@code double} array is returned as is.
+     */
+    static Optional<double[]> toDoubleArray(Object obj) {
+        if (obj instanceof double[]) {
+            return Optional.of((double[]) obj);
+        } else if (obj instanceof float[]) {
+            final float[] source = (float[]) obj;
+            final double[] array = new double[source.length];
+            for (int i = 0; i < source.length; i++) {
+                array[i] = source[i];
+            }
+            return Optional.of(array);
+        } else if (obj instanceof int[]) {
+            return Optional.of(Arrays.stream((int[]) obj).asDoubleStream().toArray());
+        } else if (obj instanceof long[]) {
+            return Optional.of(Arrays.stream((long[]) obj).asDoubleStream().toArray());
+        } else if (obj instanceof List<?>) {
+            final List<?> list = (List<?>) obj;
+            final double[] array = new double[list.size()];
+            for (int i = 0; i < array.length; i++) {
+                final Object element = list.get(i);
+                if (!(element instanceof Number)) {
+                    return Optional.empty();
+                }
+                array[i] = ((Number) element).doubleValue();
+            }
+            return Optional.of(array);
+        }
+        return Optional.empty();
+    }
+
+    private PrimitiveArrays() {
+    }
+
+}
@@ -0,0 +1,111 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.data;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import org.spongepowered.api.data.key.Key;
+import org.spongepowered.api.data.persistence.StreamingDataFormat;
+import org.spongepowered.api.data.value.BaseValue;
+
+import java.nio.ByteBuffer;
+import java.util.Optional;
+
+/**
+ * A {@link DataContainer} whose contents are structurally shared with its
+ * copies, see {@link SharedDataView}.
+ */
+public class SharedDataContainer extends SharedDataView implements DataContainer {
+
+    Node root;
+    final SafetyMode safety;
+
+    /**
+     * Creates a new {@link SharedDataContainer} with a default
+     * {@link org.spongepowered.api.data.DataView.SafetyMode} of
+     * {@link org.spongepowered.api.data.DataView.SafetyMode#ALL_DATA_CLONED}.
+     */
+    public SharedDataContainer() {
+        this(SafetyMode.ALL_DATA_CLONED);
+    }
+
+    /**
+     * Creates a new {@link SharedDataContainer} with the provided
+     * {@link org.spongepowered.api.data.DataView.SafetyMode}.
+     *
+     * @param safety The safety mode to use
+     * @see org.spongepowered.api.data.DataView.SafetyMode
+     */
+    public SharedDataContainer(SafetyMode safety) {
+        this(checkNotNull(safety, "Safety mode"), Node.EMPTY);
+    }
+
+    /**
+     * Creates a new {@link SharedDataContainer} backed by the remaining
+     * contents of the given buffer, encoded in the given format. The
+     * contents are only decoded once they are first accessed.
+     *
+     * @param format The format of the encoded data
+     * @param buffer The buffer
+     * @return The new data container
+     * @see StreamingDataFormat#readLazily(ByteBuffer)
+     */
+    public static SharedDataContainer decode(StreamingDataFormat format, ByteBuffer buffer) {
+        checkNotNull(format, "format");
+        checkNotNull(buffer, "buffer");
+        return new SharedDataContainer(SafetyMode.ALL_DATA_CLONED, new Node(new Encoded(format, buffer.slice())));
+    }
+
+    SharedDataContainer(SafetyMode safety, Node root) {
+        this.safety = safety;
+        this.root = root;
+    }
+
+    @Override
+    public Optional<DataView> getParent() {
+        return Optional.empty();
+    }
+
+    @Override
+    public final DataContainer getContainer() {
+        return this;
+    }
+
+    @Override
+    public DataContainer set(DataQuery path, Object value) {
+        return (DataContainer) super.set(path, value);
+    }
+
+    @Override
+    public <E> DataContainer set(Key<? extends BaseValue<E>> key, E value) {
+        return set(checkNotNull(key).getQuery(), value);
+    }
+
+    @Override
+    public DataContainer remove(DataQuery path) {
+        return (DataContainer) super.remove(path);
+    }
+
+}
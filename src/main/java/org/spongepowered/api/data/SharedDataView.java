@@ -0,0 +1,725 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.data;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+import static org.spongepowered.api.data.DataQuery.of;
+
+import com.google.common.base.MoreObjects;
+import com.google.common.base.Objects;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
+import org.apache.commons.lang3.ArrayUtils;
+import org.spongepowered.api.CatalogType;
+import org.spongepowered.api.Sponge;
+import org.spongepowered.api.data.persistence.DataTranslator;
+import org.spongepowered.api.data.persistence.DataViewReader;
+import org.spongepowered.api.data.persistence.DataViewWriter;
+import org.spongepowered.api.data.persistence.InvalidDataException;
+import org.spongepowered.api.data.persistence.StreamingDataFormat;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import javax.annotation.Nullable;
+
+/**
+ * A {@link DataView} backed by a persistent tree of immutable nodes that
+ * is structurally shared between copies.
+ *
+ * <p>Copying a view is a constant time operation, the copy references the
+ * same nodes as the original. Setting or removing a value only rebuilds
+ * the nodes along the modified path, every other node stays shared between
+ * all the containers it is reachable from.</p>
+ *
+ * <p>Sub views are lightweight cursors into their {@link SharedDataContainer}
+ * and always reflect its current contents. Views stored inside lists are
+ * treated as values, the views obtained from such a list are independent
+ * copies.</p>
+ *
+ * <p>Nodes may also be backed by data encoded in a
+ * {@link StreamingDataFormat}, see
+ * {@link SharedDataContainer#decode(StreamingDataFormat, ByteBuffer)}.</p>
+ */
+public class SharedDataView extends AbstractDataView {
+
+    final SharedDataContainer container;
+    private final DataQuery path;
+
+    SharedDataView() {
+        this.container = (SharedDataContainer) this;
+        this.path = of();
+    }
+
+    SharedDataView(SharedDataContainer container, DataQuery path) {
+        checkArgument(path.getParts().size() >= 1, "Path must have at least one part");
+        this.container = container;
+        this.path = path;
+    }
+
+    @Override
+    public DataContainer getContainer() {
+        return this.container;
+    }
+
+    @Override
+    public DataQuery getCurrentPath() {
+        return this.path;
+    }
+
+    @Override
+    public String getName() {
+        List<String> parts = this.path.getParts();
+        return parts.isEmpty() ? "" : parts.get(parts.size() - 1);
+    }
+
+    @Override
+    public Optional<DataView> getParent() {
+        if (this.path.getParts().size() <= 1) {
+            return Optional.of(this.container);
+        }
+        return Optional.of(new SharedDataView(this.container, this.path.pop()));
+    }
+
+    @Override
+    public Set<DataQuery> getKeys(boolean deep) {
+        ImmutableSet.Builder<DataQuery> builder = ImmutableSet.builder();
+        addKeys(builder, node(), of(), deep);
+        return builder.build();
+    }
+
+    private static void addKeys(ImmutableSet.Builder<DataQuery> builder, Node node, DataQuery prefix, boolean deep) {
+        for (String key : node.entries().keySet()) {
+            builder.add(prefix.then(key));
+        }
+        if (deep) {
+            for (Map.Entry<String, Object> entry : node.entries().entrySet()) {
+                if (entry.getValue() instanceof Node) {
+                    addKeys(builder, (Node) entry.getValue(), prefix.then(entry.getKey()), true);
+                }
+            }
+        }
+    }
+
+    @Override
+    public Map<DataQuery, Object> getValues(boolean deep) {
+        ImmutableMap.Builder<DataQuery, Object> builder = ImmutableMap.builder();
+        for (DataQuery query : getKeys(deep)) {
+            Object value = get(query).get();
+            if (value instanceof DataView) {
+                builder.put(query, ((DataView) value).getValues(deep));
+            } else {
+                builder.put(query, value);
+            }
+        }
+        return builder.build();
+    }
+
+    @Override
+    public boolean contains(DataQuery path) {
+        checkNotNull(path, "path");
+        List<String> parts = path.getParts();
+        checkArgument(!parts.isEmpty(), "The size of the query must be at least 1");
+
+        final Node parent = walk(node(), parts, parts.size() - 1);
+        return parent != null && parent.entries().containsKey(parts.get(parts.size() - 1));
+    }
+
+    @Override
+    public Optional<Object> get(DataQuery path) {
+        return get(path, getSafetyMode() != SafetyMode.NO_DATA_CLONED);
+    }
+
+    @Override
+    Optional<Object> getUncopied(DataQuery path) {
+        return get(path, false);
+    }
+
+    private Optional<Object> get(DataQuery path, boolean copyArrays) {
+        checkNotNull(path, "path");
+        List<String> parts = path.getParts();
+        if (parts.isEmpty()) {
+            return Optional.of(this);
+        }
+        final Node parent = walk(node(), parts, parts.size() - 1);
+        if (parent == null) {
+            return Optional.empty();
+        }
+        final Object value = parent.entries().get(parts.get(parts.size() - 1));
+        if (value == null) {
+            return Optional.empty();
+        }
+        if (value instanceof Node) {
+            return Optional.of(new SharedDataView(this.container, this.path.then(path)));
+        }
+        if (!copyArrays && value.getClass().isArray()) {
+            return Optional.of(value);
+        }
+        return Optional.of(exportValue(value));
+    }
+
+    @Override
+    public DataView set(DataQuery path, Object value) {
+        checkNotNull(path, "path");
+        checkNotNull(value, "value");
+        checkArgument(!path.getParts().isEmpty(), "The size of the query must be at least 1");
+
+        final Object stored = storeValue(value);
+        this.container.root = with(this.container.root, this.path.getParts(), path.getParts(), 0, stored);
+        return this;
+    }
+
+    @Override
+    public DataView remove(DataQuery path) {
+        checkNotNull(path, "path");
+        checkArgument(!path.getParts().isEmpty(), "The size of the query must be at least 1");
+
+        this.container.root = with(this.container.root, this.path.getParts(), path.getParts(), 0, null);
+        return this;
+    }
+
+    @Override
+    public DataView createView(DataQuery path) {
+        checkNotNull(path, "path");
+        checkArgument(!path.getParts().isEmpty(), "The size of the query must be at least 1");
+
+        this.container.root = with(this.container.root, this.path.getParts(), path.getParts(), 0, Node.EMPTY);
+        return new SharedDataView(this.container, this.path.then(path));
+    }
+
+    @Override
+    public DataContainer copy() {
+        return new SharedDataContainer(getSafetyMode(), node());
+    }
+
+    @Override
+    public DataContainer copy(SafetyMode safety) {
+        return new SharedDataContainer(checkNotNull(safety, "safety"), node());
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return node().entries().isEmpty();
+    }
+
+    @Override
+    public SafetyMode getSafetyMode() {
+        return this.container.safety;
+    }
+
+    /**
+     * Resolves the node this view currently points to. If the path of this
+     * view no longer exists in the container, an empty node is returned.
+     *
+     * @return The current node of this view
+     */
+    Node node() {
+        final Node node = walk(this.container.root, this.path.getParts(), this.path.getParts().size());
+        return node == null ? Node.EMPTY : node;
+    }
+
+    @Nullable
+    private static Node walk(Node node, List<String> parts, int length) {
+        Node current = node;
+        for (int i = 0; i < length; i++) {
+            final Object child = current.entries().get(parts.get(i));
+            if (!(child instanceof Node)) {
+                return null;
+            }
+            current = (Node) child;
+        }
+        return current;
+    }
+
+    /**
+     * Rebuilds the nodes along the given path, sharing everything else with
+     * the given node. The path is the concatenation of the prefix and the
+     * parts. A {@code null} value removes the entry at the path.
+     */
+    private static Node with(Node node, List<String> prefix, List<String> parts, int index, @Nullable Object value) {
+        final int size = prefix.size() + parts.size();
+        final String key = index < prefix.size() ? prefix.get(index) : parts.get(index - prefix.size());
+        final Object current = node.entries().get(key);
+        final Object replacement;
+        if (index == size - 1) {
+            replacement = value;
+        } else if (current instanceof Node) {
+            replacement = with((Node) current, prefix, parts, index + 1, value);
+        } else if (value == null) {
+            return node;
+        } else {
+            replacement = with(Node.EMPTY, prefix, parts, index + 1, value);
+        }
+        if (replacement == current) {
+            return node;
+        }
+        return node.with(key, replacement);
+    }
+
+    @SuppressWarnings({"rawtypes", "unchecked"})
+    private Object storeValue(Object value) {
+        @Nullable final DataManager manager = getDataManager();
+        if (value instanceof SharedDataView) {
+            // Nodes are immutable, so they can simply be shared
+            return ((SharedDataView) value).node();
+        } else if (value instanceof DataView) {
+            return toNode((DataView) value);
+        } else if (value instanceof DataSerializable) {
+            return toNode(((DataSerializable) value).toContainer());
+        } else if (value instanceof CatalogType) {
+            return ((CatalogType) value).getId();
+        } else if (manager != null && manager.getTranslator(value.getClass()).isPresent()) {
+            final DataTranslator translator = manager.getTranslator(value.getClass()).get();
+            return toNode(translator.translate(value));
+        } else if (value instanceof Collection) {
+            return storeCollection((Collection<?>) value);
+        } else if (value instanceof Map) {
+            Node node = Node.EMPTY;
+            for (Map.Entry<?, ?> entry : ((Map<?, ?>) value).entrySet()) {
+                node = node.with(entry.getKey().toString(), storeValue(entry.getValue()));
+            }
+            return node;
+        } else if (value.getClass().isArray()) {
+            return getSafetyMode() == SafetyMode.NO_DATA_CLONED ? value : cloneArray(value);
+        }
+        return value;
+    }
+
+    private Object storeCollection(Collection<?> collection) {
+        final ImmutableList.Builder<Object> builder = ImmutableList.builder();
+        boolean nodes = false;
+        for (Object element : collection) {
+            final Object stored = storeElement(element);
+            nodes |= stored instanceof Node || stored instanceof NodeValue;
+            builder.add(stored instanceof NodeValue ? ((NodeValue) stored).value : stored);
+        }
+        return nodes ? new NodeValue(builder.build()) : builder.build();
+    }
+
+    private Object storeElement(Object element) {
+        if (element instanceof Map) {
+            final ImmutableMap.Builder<Object, Object> builder = ImmutableMap.builder();
+            boolean nodes = false;
+            for (Map.Entry<?, ?> entry : ((Map<?, ?>) element).entrySet()) {
+                final Object stored = storeElement(entry.getValue());
+                nodes |= stored instanceof Node || stored instanceof NodeValue;
+                builder.put(entry.getKey(), stored instanceof NodeValue ? ((NodeValue) stored).value : stored);
+            }
+            return nodes ? new NodeValue(builder.build()) : builder.build();
+        } else if (element instanceof Collection) {
+            return storeCollection((Collection<?>) element);
+        } else if (element.getClass().isArray()) {
+            if (getSafetyMode() == SafetyMode.NO_DATA_CLONED) {
+                return element;
+            }
+            // Marks the list or map as containing an array, which has to be
+            // cloned again whenever it is read
+            return new NodeValue(cloneArray(element));
+        }
+        return storeValue(element);
+    }
+
+    private Node toNode(DataView view) {
+        checkArgument(view != this, "Cannot set a DataView to itself.");
+        Node node = Node.EMPTY;
+        for (DataQuery key : view.getKeys(false)) {
+            node = with(node, ImmutableList.of(), key.getParts(), 0, storeValue(view.get(key).get()));
+        }
+        return node;
+    }
+
+    private Object exportValue(Object value) {
+        if (value instanceof EncodedValue) {
+            return exportValue(((EncodedValue) value).decoded());
+        } else if (value instanceof NodeValue) {
+            return exportElement(((NodeValue) value).value);
+        } else if (value.getClass().isArray() && getSafetyMode() != SafetyMode.NO_DATA_CLONED) {
+            return cloneArray(value);
+        }
+        return value;
+    }
+
+    private Object exportElement(Object element) {
+        if (element instanceof Node) {
+            return new SharedDataContainer(getSafetyMode(), (Node) element);
+        } else if (element instanceof List) {
+            final ImmutableList.Builder<Object> builder = ImmutableList.builder();
+            for (Object object : (List<?>) element) {
+                builder.add(exportElement(object));
+            }
+            return builder.build();
+        } else if (element instanceof Map) {
+            final ImmutableMap.Builder<Object, Object> builder = ImmutableMap.builder();
+            for (Map.Entry<?, ?> entry : ((Map<?, ?>) element).entrySet()) {
+                builder.put(entry.getKey(), exportElement(entry.getValue()));
+            }
+            return builder.build();
+        } else if (element.getClass().isArray() && getSafetyMode() != SafetyMode.NO_DATA_CLONED) {
+            return cloneArray(element);
+        }
+        return element;
+    }
+
+    private static Object cloneArray(Object array) {
+        if (array instanceof byte[]) {
+            return ArrayUtils.clone((byte[]) array);
+        } else if (array instanceof short[]) {
+            return ArrayUtils.clone((short[]) array);
+        } else if (array instanceof int[]) {
+            return ArrayUtils.clone((int[]) array);
+        } else if (array instanceof long[]) {
+            return ArrayUtils.clone((long[]) array);
+        } else if (array instanceof float[]) {
+            return ArrayUtils.clone((float[]) array);
+        } else if (array instanceof double[]) {
+            return ArrayUtils.clone((double[]) array);
+        } else if (array instanceof boolean[]) {
+            return ArrayUtils.clone((boolean[]) array);
+        } else if (array instanceof char[]) {
+            return ArrayUtils.clone((char[]) array);
+        }
+        return ArrayUtils.clone((Object[]) array);
+    }
+
+    @Nullable
+    private static DataManager getDataManager() {
+        try {
+            return Sponge.getDataManager();
+        } catch (Exception e) {
+            return null;
+        }
+    }
+
+    /**
+     * Writes the contents of this view to the given writer.
+     *
+     * <p>Views and lists that were decoded lazily and were not modified
+     * since are handed to the writer in their encoded form, which lets
+     * writers of the same format copy them without encoding them again.</p>
+     *
+     * @param writer The writer
+     * @throws IOException If there was an error writing to the writer
+     */
+    @Override
+    public void writeTo(DataViewWriter writer) throws IOException {
+        writeNode(writer, node());
+    }
+
+    private static void writeNode(DataViewWriter writer, Node node) throws IOException {
+        if (node.encoded != null && writer.writeEncoded(node.encoded.format, node.encoded.bytes.duplicate())) {
+            return;
+        }
+        writer.beginView();
+        for (Map.Entry<String, Object> entry : node.entries().entrySet()) {
+            writer.key(entry.getKey());
+            writeStored(writer, entry.getValue());
+        }
+        writer.endView();
+    }
+
+    private static void writeStored(DataViewWriter writer, Object value) throws IOException {
+        if (value instanceof Node) {
+            writeNode(writer, (Node) value);
+        } else if (value instanceof EncodedValue) {
+            final Encoded encoded = ((EncodedValue) value).encoded;
+            if (!writer.writeEncoded(encoded.format, encoded.bytes.duplicate())) {
+                writeStored(writer, ((EncodedValue) value).decoded());
+            }
+        } else if (value instanceof NodeValue) {
+            writeStored(writer, ((NodeValue) value).value);
+        } else if (value instanceof List) {
+            writer.beginList();
+            for (Object element : (List<?>) value) {
+                writeStored(writer, element);
+            }
+            writer.endList();
+        } else if (value instanceof Map) {
+            writer.beginView();
+            for (Map.Entry<?, ?> entry : ((Map<?, ?>) value).entrySet()) {
+                writer.key(entry.getKey().toString());
+                writeStored(writer, entry.getValue());
+            }
+            writer.endView();
+        } else if (value instanceof int[]) {
+            writer.value((int[]) value);
+        } else if (value instanceof long[]) {
+            writer.value((long[]) value);
+        } else if (value instanceof double[]) {
+            writer.value((double[]) value);
+        } else {
+            writer.value(value);
+        }
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hashCode(node(), this.path);
+    }
+
+    @Override
+    public boolean equals(@Nullable Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (obj == null || getClass() != obj.getClass()) {
+            return false;
+        }
+        final SharedDataView other = (SharedDataView) obj;
+        return Objects.equal(this.path, other.path)
+               && Objects.equal(node(), other.node());
+    }
+
+    @Override
+    public String toString() {
+        final MoreObjects.ToStringHelper helper = MoreObjects.toStringHelper(this);
+        if (!this.path.toString().isEmpty()) {
+            helper.add("path", this.path);
+        }
+        helper.add("safety", getSafetyMode().name());
+        return helper.add("map", node().entries()).toString();
+    }
+
+    /**
+     * An immutable compound node of the tree. Nested compounds are stored
+     * as nodes themselves, all other values are stored as they are.
+     *
+     * <p>A node may be backed by an encoded region, in which case its
+     * entries are only decoded once they are first accessed.</p>
+     */
+    static final class Node {
+
+        static final Node EMPTY = new Node(ImmutableMap.of());
+
+        @Nullable private ImmutableMap<String, Object> entries;
+        @Nullable final Encoded encoded;
+
+        Node(ImmutableMap<String, Object> entries) {
+            this.entries = entries;
+            this.encoded = null;
+        }
+
+        Node(Encoded encoded) {
+            this.encoded = encoded;
+        }
+
+        ImmutableMap<String, Object> entries() {
+            ImmutableMap<String, Object> entries = this.entries;
+            if (entries == null) {
+                // Decoding is idempotent, so racing threads may at worst
+                // decode the same region twice
+                entries = this.entries = checkNotNull(this.encoded).decodeEntries();
+            }
+            return entries;
+        }
+
+        /**
+         * Creates a node with the given entry replaced, keeping the order
+         * of the other entries. A {@code null} value removes the entry.
+         */
+        Node with(String key, @Nullable Object value) {
+            final ImmutableMap.Builder<String, Object> builder = ImmutableMap.builder();
+            boolean replaced = false;
+            for (Map.Entry<String, Object> entry : entries().entrySet()) {
+                if (entry.getKey().equals(key)) {
+                    replaced = true;
+                    if (value != null) {
+                        builder.put(key, value);
+                    }
+                } else {
+                    builder.put(entry);
+                }
+            }
+            if (!replaced && value != null) {
+                builder.put(key, value);
+            }
+            return new Node(builder.build());
+        }
+
+        @Override
+        public int hashCode() {
+            return entries().hashCode();
+        }
+
+        @Override
+        public boolean equals(@Nullable Object obj) {
+            return this == obj || obj instanceof Node && entries().equals(((Node) obj).entries());
+        }
+
+        @Override
+        public String toString() {
+            return entries().toString();
+        }
+    }
+
+    /**
+     * A list or map value that contains nodes or arrays, which have to be
+     * turned into views or cloned when the value is read.
+     */
+    static final class NodeValue {
+
+        final Object value;
+
+        NodeValue(Object value) {
+            this.value = value;
+        }
+
+        @Override
+        public int hashCode() {
+            return this.value.hashCode();
+        }
+
+        @Override
+        public boolean equals(@Nullable Object obj) {
+            return this == obj || obj instanceof NodeValue && this.value.equals(((NodeValue) obj).value);
+        }
+
+        @Override
+        public String toString() {
+            return this.value.toString();
+        }
+    }
+
+    /**
+     * A region of data encoded in a {@link StreamingDataFormat}.
+     */
+    static final class Encoded {
+
+        final StreamingDataFormat format;
+        final ByteBuffer bytes;
+
+        Encoded(StreamingDataFormat format, ByteBuffer bytes) {
+            this.format = format;
+            this.bytes = bytes;
+        }
+
+        ImmutableMap<String, Object> decodeEntries() {
+            try (DataViewReader reader = this.format.createReader(this.bytes.duplicate())) {
+                return readEntries(reader);
+            } catch (IOException e) {
+                throw new InvalidDataException("Unable to decode the lazily read data", e);
+            }
+        }
+
+        Object decodeValue() {
+            try (DataViewReader reader = this.format.createReader(this.bytes.duplicate())) {
+                return read(reader, false);
+            } catch (IOException e) {
+                throw new InvalidDataException("Unable to decode the lazily read data", e);
+            }
+        }
+
+        private ImmutableMap<String, Object> readEntries(DataViewReader reader) throws IOException {
+            final ImmutableMap.Builder<String, Object> builder = ImmutableMap.builder();
+            reader.beginView();
+            while (reader.hasNext()) {
+                final String key = reader.nextKey();
+                builder.put(key, read(reader, true));
+            }
+            reader.endView();
+            return builder.build();
+        }
+
+        /**
+         * Reads the next value in its stored form. Views, and lists if
+         * allowed, are kept encoded if the reader is able to provide their
+         * encoded bytes.
+         */
+        private Object read(DataViewReader reader, boolean lazyLists) throws IOException {
+            switch (reader.peek()) {
+                case BEGIN_VIEW: {
+                    final Optional<ByteBuffer> encoded = reader.nextEncoded();
+                    if (encoded.isPresent()) {
+                        return new Node(new Encoded(this.format, encoded.get()));
+                    }
+                    return new Node(readEntries(reader));
+                }
+                case BEGIN_LIST: {
+                    if (lazyLists) {
+                        final Optional<ByteBuffer> encoded = reader.nextEncoded();
+                        if (encoded.isPresent()) {
+                            return new EncodedValue(new Encoded(this.format, encoded.get()));
+                        }
+                    }
+                    final ImmutableList.Builder<Object> builder = ImmutableList.builder();
+                    boolean nodes = false;
+                    reader.beginList();
+                    while (reader.hasNext()) {
+                        final Object element = read(reader, false);
+                        // Decoded arrays are shared by every read of the list
+                        nodes |= element instanceof Node || element instanceof NodeValue || element.getClass().isArray();
+                        builder.add(element instanceof NodeValue ? ((NodeValue) element).value : element);
+                    }
+                    reader.endList();
+                    return nodes ? new NodeValue(builder.build()) : builder.build();
+                }
+                default:
+                    return reader.nextValue();
+            }
+        }
+    }
+
+    /**
+     * A list value that is only decoded once it is first accessed.
+     */
+    static final class EncodedValue {
+
+        final Encoded encoded;
+        @Nullable private Object decoded;
+
+        EncodedValue(Encoded encoded) {
+            this.encoded = encoded;
+        }
+
+        Object decoded() {
+            Object decoded = this.decoded;
+            if (decoded == null) {
+                decoded = this.decoded = this.encoded.decodeValue();
+            }
+            return decoded;
+        }
+
+        @Override
+        public int hashCode() {
+            return decoded().hashCode();
+        }
+
+        @Override
+        public boolean equals(@Nullable Object obj) {
+            return this == obj || obj instanceof EncodedValue && decoded().equals(((EncodedValue) obj).decoded());
+        }
+
+        @Override
+        public String toString() {
+            return decoded().toString();
+        }
+    }
+}
@@ -73,7 +73,7 @@ public final Optional<T> build(DataView container) throws InvalidDataException {
         if (container.contains(Queries.CONTENT_VERSION)) {
             final int contentVersion = container.getInt(Queries.CONTENT_VERSION).get();
             if (contentVersion < this.supportedVersion) {
-                Optional<DataContentUpdater> updater = Sponge.getDataManager().getWrappedContentUpdater(this.requiredClass, contentVersion,
+                Optional<DataContentUpdaterChain> updater = Sponge.getDataManager().getContentUpdaterChain(this.requiredClass, contentVersion,
                         this.supportedVersion);
                 if (!updater.isPresent()) {
                     throw new InvalidDataException("Could not get an updater for " + this.requiredClass.getName()
@@ -0,0 +1,173 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.data.persistence;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import com.google.common.collect.ImmutableList;
+import org.spongepowered.api.data.DataView;
+
+import java.util.ArrayDeque;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Stream;
+
+/**
+ * A {@link DataContentUpdater} that has been compiled from several
+ * {@link DataContentUpdater}s covering a complete jump from an input version
+ * to an output version. The path through the registered updaters is resolved
+ * once, such that a chain may be cached and reused for every
+ * {@link DataView} requiring the same version jump.
+ *
+ * <p>Each hop of the chain counts the number of {@link DataView}s it has
+ * updated, which may be used to observe large scale migrations.</p>
+ */
+public final class DataContentUpdaterChain implements DataContentUpdater {
+
+    /**
+     * Resolves the shortest chain of the provided {@link DataContentUpdater}s
+     * that translates versioned data from the {@code fromVersion} to the
+     * {@code toVersion}. If no combination of the updaters covers the
+     * complete jump, {@link Optional#empty()} is returned.
+     *
+     * @param updaters The available updaters
+     * @param fromVersion The version converting from
+     * @param toVersion The version converting to
+     * @return The compiled chain, if available
+     */
+    public static Optional<DataContentUpdaterChain> resolve(Collection<? extends DataContentUpdater> updaters, int fromVersion,
+            int toVersion) {
+        checkNotNull(updaters, "updaters");
+        checkArgument(fromVersion <= toVersion, "Cannot update from version %s to the older version %s", fromVersion, toVersion);
+        final Map<Integer, DataContentUpdater> reachedBy = new HashMap<>();
+        final Deque<Integer> queue = new ArrayDeque<>();
+        queue.add(fromVersion);
+        while (!queue.isEmpty() && !reachedBy.containsKey(toVersion)) {
+            final int version = queue.poll();
+            for (DataContentUpdater updater : updaters) {
+                final int output = updater.getOutputVersion();
+                if (updater.getInputVersion() == version && output <= toVersion && output != fromVersion
+                        && !reachedBy.containsKey(output)) {
+                    reachedBy.put(output, updater);
+                    queue.add(output);
+                }
+            }
+        }
+        if (fromVersion != toVersion && !reachedBy.containsKey(toVersion)) {
+            return Optional.empty();
+        }
+        final Deque<DataContentUpdater> chain = new ArrayDeque<>();
+        for (int version = toVersion; version != fromVersion; ) {
+            final DataContentUpdater updater = reachedBy.get(version);
+            chain.addFirst(updater);
+            version = updater.getInputVersion();
+        }
+        return Optional.of(new DataContentUpdaterChain(fromVersion, toVersion, chain.toArray(new DataContentUpdater[chain.size()])));
+    }
+
+    private final int inputVersion;
+    private final int outputVersion;
+    private final DataContentUpdater[] updaters;
+    private final LongAdder[] updated;
+
+    private DataContentUpdaterChain(int inputVersion, int outputVersion, DataContentUpdater[] updaters) {
+        this.inputVersion = inputVersion;
+        this.outputVersion = outputVersion;
+        this.updaters = updaters;
+        this.updated = new LongAdder[updaters.length];
+        for (int i = 0; i < updaters.length; i++) {
+            this.updated[i] = new LongAdder();
+        }
+    }
+
+    /**
+     * Gets the {@link DataContentUpdater}s of this chain, in the order they
+     * are applied.
+     *
+     * @return The updaters of this chain
+     */
+    public ImmutableList<DataContentUpdater> getUpdaters() {
+        return ImmutableList.copyOf(this.updaters);
+    }
+
+    /**
+     * Gets the number of {@link DataView}s that the updater at the given hop
+     * of this chain has updated so far.
+     *
+     * @param hop The index of the hop within {@link #getUpdaters()}
+     * @return The number of updated views
+     */
+    public long getUpdatedCount(int hop) {
+        checkArgument(hop >= 0 && hop < this.updated.length, "Hop %s out of bounds", hop);
+        return this.updated[hop].sum();
+    }
+
+    /**
+     * Resets the updated counts of all hops of this chain.
+     */
+    public void resetUpdatedCounts() {
+        for (LongAdder adder : this.updated) {
+            adder.reset();
+        }
+    }
+
+    @Override
+    public int getInputVersion() {
+        return this.inputVersion;
+    }
+
+    @Override
+    public int getOutputVersion() {
+        return this.outputVersion;
+    }
+
+    @Override
+    public DataView update(DataView content) {
+        for (int i = 0; i < this.updaters.length; i++) {
+            content = this.updaters[i].update(content);
+            this.updated[i].increment();
+        }
+        return content;
+    }
+
+    /**
+     * Lazily pushes all of the provided {@link DataView}s through this chain
+     * in parallel. The returned stream is parallel and unordered, the views
+     * are updated once a terminal operation is invoked on it.
+     *
+     * @param contents The views to update
+     * @return The stream of updated views
+     */
+    public Stream<DataView> updateAll(Stream<? extends DataView> contents) {
+        checkNotNull(contents, "contents");
+        return contents.parallel().unordered().map(this::update);
+    }
+
+}
@@ -0,0 +1,438 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.data.persistence;
+
+import org.spongepowered.api.data.DataContainer;
+import org.spongepowered.api.data.DataQuery;
+import org.spongepowered.api.data.DataView;
+import org.spongepowered.api.util.Coerce;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * A pull parser reading a {@link DataView} from an encoded source one
+ * {@link Token} at a time, without materializing the whole view.
+ *
+ * <p>A reader starts positioned before the root view, which makes the
+ * first token {@link Token#BEGIN_VIEW}. Inside of a view, every entry
+ * consists of a {@link Token#KEY} followed by its value, inside of a list
+ * only values follow each other. A value is either a single
+ * {@link Token#VALUE}, or a nested view or list.</p>
+ *
+ * <p>Sub-trees that are of no interest can be passed over with
+ * {@link #skipValue()}, which implementations are expected to do without
+ * decoding the skipped data where the format allows it.</p>
+ */
+public interface DataViewReader extends Closeable {
+
+    /**
+     * Gets the type of the next token without consuming it.
+     *
+     * @return The next token
+     * @throws IOException If there was an error reading from the source
+     */
+    Token peek() throws IOException;
+
+    /**
+     * Gets whether the current view or list has more entries.
+     *
+     * @return True if there is another entry
+     * @throws IOException If there was an error reading from the source
+     */
+    boolean hasNext() throws IOException;
+
+    /**
+     * Consumes the next token, which must be {@link Token#BEGIN_VIEW}.
+     *
+     * @throws IOException If there was an error reading from the source
+     * @throws InvalidDataException If the next token is of another type
+     */
+    void beginView() throws IOException;
+
+    /**
+     * Consumes the next token, which must be {@link Token#END_VIEW}.
+     *
+     * @throws IOException If there was an error reading from the source
+     * @throws InvalidDataException If the next token is of another type
+     */
+    void endView() throws IOException;
+
+    /**
+     * Consumes the next token, which must be {@link Token#BEGIN_LIST}.
+     *
+     * @throws IOException If there was an error reading from the source
+     * @throws InvalidDataException If the next token is of another type
+     */
+    void beginList() throws IOException;
+
+    /**
+     * Consumes the next token, which must be {@link Token#END_LIST}.
+     *
+     * @throws IOException If there was an error reading from the source
+     * @throws InvalidDataException If the next token is of another type
+     */
+    void endList() throws IOException;
+
+    /**
+     * Consumes the next token, which must be {@link Token#KEY}.
+     *
+     * @return The key of the next entry
+     * @throws IOException If there was an error reading from the source
+     * @throws InvalidDataException If the next token is of another type
+     */
+    String nextKey() throws IOException;
+
+    /**
+     * Consumes the next token, which must be {@link Token#VALUE}.
+     *
+     * <p>Values are boxed primitives, {@link String}s or primitive
+     * arrays.</p>
+     *
+     * @return The value
+     * @throws IOException If there was an error reading from the source
+     * @throws InvalidDataException If the next token is of another type
+     */
+    Object nextValue() throws IOException;
+
+    /**
+     * Consumes the next token as an {@code int} value.
+     *
+     * <p>Implementations should override this method to avoid boxing the
+     * value.</p>
+     *
+     * @return The value
+     * @throws IOException If there was an error reading from the source
+     * @throws InvalidDataException If the next token is of another type
+     */
+    default int nextInt() throws IOException {
+        return Coerce.toInteger(nextValue());
+    }
+
+    /**
+     * Consumes the next token as a {@code long} value.
+     *
+     * <p>Implementations should override this method to avoid boxing the
+     * value.</p>
+     *
+     * @return The value
+     * @throws IOException If there was an error reading from the source
+     * @throws InvalidDataException If the next token is of another type
+     */
+    default long nextLong() throws IOException {
+        return Coerce.toLong(nextValue());
+    }
+
+    /**
+     * Consumes the next token as a {@code double} value.
+     *
+     * <p>Implementations should override this method to avoid boxing the
+     * value.</p>
+     *
+     * @return The value
+     * @throws IOException If there was an error reading from the source
+     * @throws InvalidDataException If the next token is of another type
+     */
+    default double nextDouble() throws IOException {
+        return Coerce.toDouble(nextValue());
+    }
+
+    /**
+     * Consumes the next token as a {@code boolean} value.
+     *
+     * @return The value
+     * @throws IOException If there was an error reading from the source
+     * @throws InvalidDataException If the next token is of another type
+     */
+    default boolean nextBoolean() throws IOException {
+        return Coerce.toBoolean(nextValue());
+    }
+
+    /**
+     * Consumes the next token as a {@link String} value.
+     *
+     * @return The value
+     * @throws IOException If there was an error reading from the source
+     * @throws InvalidDataException If the next token is of another type
+     */
+    default String nextString() throws IOException {
+        return Coerce.toString(nextValue());
+    }
+
+    /**
+     * Consumes the next token as an {@code int} array value.
+     *
+     * @return The values
+     * @throws IOException If there was an error reading from the source
+     * @throws InvalidDataException If the next value is not an int array
+     */
+    default int[] nextIntArray() throws IOException {
+        final Object value = nextValue();
+        if (!(value instanceof int[])) {
+            throw new InvalidDataException("Expected an int array but got: " + value);
+        }
+        return (int[]) value;
+    }
+
+    /**
+     * Consumes the next token as a {@code long} array value.
+     *
+     * @return The values
+     * @throws IOException If there was an error reading from the source
+     * @throws InvalidDataException If the next value is not a long array
+     */
+    default long[] nextLongArray() throws IOException {
+        final Object value = nextValue();
+        if (!(value instanceof long[])) {
+            throw new InvalidDataException("Expected a long array but got: " + value);
+        }
+        return (long[]) value;
+    }
+
+    /**
+     * Consumes the next token as a {@code double} array value.
+     *
+     * @return The values
+     * @throws IOException If there was an error reading from the source
+     * @throws InvalidDataException If the next value is not a double array
+     */
+    default double[] nextDoubleArray() throws IOException {
+        final Object value = nextValue();
+        if (!(value instanceof double[])) {
+            throw new InvalidDataException("Expected a double array but got: " + value);
+        }
+        return (double[]) value;
+    }
+
+    /**
+     * Consumes the next token as a byte array value, returned as a
+     * read-only {@link ByteBuffer}.
+     *
+     * <p>Readers decoding from a {@link ByteBuffer} should return a slice
+     * of the source instead of copying the bytes. The returned buffer is
+     * only guaranteed to be valid until the reader is closed.</p>
+     *
+     * @return The bytes of the value
+     * @throws IOException If there was an error reading from the source
+     * @throws InvalidDataException If the next value is not a byte array
+     */
+    default ByteBuffer nextBytes() throws IOException {
+        final Object value = nextValue();
+        if (!(value instanceof byte[])) {
+            throw new InvalidDataException("Expected a byte array but got: " + value);
+        }
+        return ByteBuffer.wrap((byte[]) value).asReadOnlyBuffer();
+    }
+
+    /**
+     * Consumes the next value, which must be a view or a list, and returns
+     * its encoded form. The returned bytes can be read again with
+     * {@link StreamingDataFormat#createReader(ByteBuffer)} of the same
+     * format, in which case the first token is the start of the value.
+     *
+     * <p>Readers decoding from a {@link ByteBuffer} should return a slice
+     * of the source, which allows the value to be decoded lazily. Readers
+     * that do not support this return {@link Optional#empty()} without
+     * consuming anything.</p>
+     *
+     * @return The encoded value, if supported
+     * @throws IOException If there was an error reading from the source
+     */
+    default Optional<ByteBuffer> nextEncoded() throws IOException {
+        return Optional.empty();
+    }
+
+    /**
+     * Skips the next value, including all the contents of a nested view or
+     * list. If the next token is a {@link Token#KEY}, the key and its value
+     * are skipped.
+     *
+     * @throws IOException If there was an error reading from the source
+     */
+    default void skipValue() throws IOException {
+        int depth = 0;
+        do {
+            switch (peek()) {
+                case BEGIN_VIEW:
+                    beginView();
+                    depth++;
+                    break;
+                case BEGIN_LIST:
+                    beginList();
+                    depth++;
+                    break;
+                case END_VIEW:
+                    endView();
+                    depth--;
+                    break;
+                case END_LIST:
+                    endList();
+                    depth--;
+                    break;
+                case KEY:
+                    nextKey();
+                    if (depth == 0) {
+                        // The value of the key has to be skipped as well
+                        skipValue();
+                    }
+                    break;
+                case VALUE:
+                    nextValue();
+                    break;
+                default:
+                    return;
+            }
+        } while (depth > 0);
+    }
+
+    /**
+     * Advances this reader to the value at the given path, relative to the
+     * view this reader is currently inside of. All entries in between are
+     * skipped.
+     *
+     * <p>If the value was found, this reader is positioned right before it
+     * and it can be read with any of the read methods. Otherwise the reader
+     * is positioned at the end of the view that did not contain the next
+     * part of the path.</p>
+     *
+     * @param path The path to look for
+     * @return True if the value was found
+     * @throws IOException If there was an error reading from the source
+     */
+    default boolean seek(DataQuery path) throws IOException {
+        final List<String> parts = path.getParts();
+        for (int i = 0; i < parts.size(); i++) {
+            final String part = parts.get(i);
+            boolean found = false;
+            while (hasNext()) {
+                if (nextKey().equals(part)) {
+                    found = true;
+                    break;
+                }
+                skipValue();
+            }
+            if (!found) {
+                return false;
+            }
+            if (i < parts.size() - 1) {
+                if (peek() != Token.BEGIN_VIEW) {
+                    return false;
+                }
+                beginView();
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Reads the next value, materializing nested views into
+     * {@link DataContainer}s and nested lists into {@link List}s.
+     *
+     * @return The value
+     * @throws IOException If there was an error reading from the source
+     */
+    default Object readValue() throws IOException {
+        switch (peek()) {
+            case BEGIN_VIEW:
+                return readView();
+            case BEGIN_LIST:
+                final List<Object> list = new ArrayList<>();
+                beginList();
+                while (hasNext()) {
+                    list.add(readValue());
+                }
+                endList();
+                return list;
+            default:
+                return nextValue();
+        }
+    }
+
+    /**
+     * Reads the next view and all of its contents into a new
+     * {@link DataContainer}.
+     *
+     * @return The data container
+     * @throws IOException If there was an error reading from the source
+     * @throws InvalidDataException If the next token is not a view
+     */
+    default DataContainer readView() throws IOException {
+        final DataContainer container = DataContainer.createNew(DataView.SafetyMode.NO_DATA_CLONED);
+        beginView();
+        while (hasNext()) {
+            final String key = nextKey();
+            container.set(DataQuery.of(key), readValue());
+        }
+        endView();
+        return container;
+    }
+
+    /**
+     * The types of tokens found in an encoded {@link DataView}.
+     */
+    enum Token {
+
+        /**
+         * The start of a view.
+         */
+        BEGIN_VIEW,
+
+        /**
+         * The end of a view.
+         */
+        END_VIEW,
+
+        /**
+         * The start of a list.
+         */
+        BEGIN_LIST,
+
+        /**
+         * The end of a list.
+         */
+        END_LIST,
+
+        /**
+         * The key of an entry in a view.
+         */
+        KEY,
+
+        /**
+         * A single value, such as a number, a string or an array.
+         */
+        VALUE,
+
+        /**
+         * The end of the encoded data.
+         */
+        END_DOCUMENT
+
+    }
+
+}
@@ -0,0 +1,264 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.data.persistence;
+
+import org.spongepowered.api.data.DataView;
+
+import java.io.Closeable;
+import java.io.Flushable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.Collection;
+import java.util.Map;
+
+/**
+ * A push writer encoding a {@link DataView} one element at a time, without
+ * requiring the whole view to exist in memory.
+ *
+ * <p>The structure written must follow the same rules as the tokens of a
+ * {@link DataViewReader}: the root is a view, entries of a view are written
+ * as a {@link #key(String) key} followed by a value, and elements of a list
+ * are written as values.</p>
+ */
+public interface DataViewWriter extends Closeable, Flushable {
+
+    /**
+     * Begins a new view.
+     *
+     * @return This writer, for chaining
+     * @throws IOException If there was an error writing to the target
+     */
+    DataViewWriter beginView() throws IOException;
+
+    /**
+     * Ends the current view.
+     *
+     * @return This writer, for chaining
+     * @throws IOException If there was an error writing to the target
+     * @throws IllegalStateException If the current element is not a view
+     */
+    DataViewWriter endView() throws IOException;
+
+    /**
+     * Begins a new list.
+     *
+     * @return This writer, for chaining
+     * @throws IOException If there was an error writing to the target
+     */
+    DataViewWriter beginList() throws IOException;
+
+    /**
+     * Ends the current list.
+     *
+     * @return This writer, for chaining
+     * @throws IOException If there was an error writing to the target
+     * @throws IllegalStateException If the current element is not a list
+     */
+    DataViewWriter endList() throws IOException;
+
+    /**
+     * Writes the key of the next entry of the current view.
+     *
+     * @param key The key
+     * @return This writer, for chaining
+     * @throws IOException If there was an error writing to the target
+     * @throws IllegalStateException If the current element is not a view
+     */
+    DataViewWriter key(String key) throws IOException;
+
+    /**
+     * Writes a single value. Supported values are boxed primitives,
+     * {@link String}s and primitive arrays.
+     *
+     * @param value The value
+     * @return This writer, for chaining
+     * @throws IOException If there was an error writing to the target
+     * @throws IllegalArgumentException If the value is not supported by
+     *     the format
+     */
+    DataViewWriter value(Object value) throws IOException;
+
+    /**
+     * Writes a single {@code int} value.
+     *
+     * <p>Implementations should override this method to avoid boxing the
+     * value.</p>
+     *
+     * @param value The value
+     * @return This writer, for chaining
+     * @throws IOException If there was an error writing to the target
+     */
+    default DataViewWriter value(int value) throws IOException {
+        return value((Object) value);
+    }
+
+    /**
+     * Writes a single {@code long} value.
+     *
+     * <p>Implementations should override this method to avoid boxing the
+     * value.</p>
+     *
+     * @param value The value
+     * @return This writer, for chaining
+     * @throws IOException If there was an error writing to the target
+     */
+    default DataViewWriter value(long value) throws IOException {
+        return value((Object) value);
+    }
+
+    /**
+     * Writes a single {@code double} value.
+     *
+     * <p>Implementations should override this method to avoid boxing the
+     * value.</p>
+     *
+     * @param value The value
+     * @return This writer, for chaining
+     * @throws IOException If there was an error writing to the target
+     */
+    default DataViewWriter value(double value) throws IOException {
+        return value((Object) value);
+    }
+
+    /**
+     * Writes an {@code int} array value, which formats should keep as a
+     * primitive array instead of a list of boxed values.
+     *
+     * @param values The values
+     * @return This writer, for chaining
+     * @throws IOException If there was an error writing to the target
+     */
+    default DataViewWriter value(int[] values) throws IOException {
+        return value((Object) values);
+    }
+
+    /**
+     * Writes a {@code long} array value, which formats should keep as a
+     * primitive array instead of a list of boxed values.
+     *
+     * @param values The values
+     * @return This writer, for chaining
+     * @throws IOException If there was an error writing to the target
+     */
+    default DataViewWriter value(long[] values) throws IOException {
+        return value((Object) values);
+    }
+
+    /**
+     * Writes a {@code double} array value, which formats should keep as a
+     * primitive array instead of a list of boxed values.
+     *
+     * @param values The values
+     * @return This writer, for chaining
+     * @throws IOException If there was an error writing to the target
+     */
+    default DataViewWriter value(double[] values) throws IOException {
+        return value((Object) values);
+    }
+
+    /**
+     * Writes the remaining bytes of the given buffer as a byte array value.
+     * The position of the buffer is not changed.
+     *
+     * <p>Implementations writing to a channel should transfer the buffer
+     * directly instead of copying it.</p>
+     *
+     * @param bytes The bytes
+     * @return This writer, for chaining
+     * @throws IOException If there was an error writing to the target
+     */
+    default DataViewWriter value(ByteBuffer bytes) throws IOException {
+        final byte[] array = new byte[bytes.remaining()];
+        bytes.duplicate().get(array);
+        return value((Object) array);
+    }
+
+    /**
+     * Writes a view or list that is already encoded in the given format,
+     * as returned by {@link DataViewReader#nextEncoded()}, without decoding
+     * it. The position of the buffer is not changed.
+     *
+     * <p>Writers return false if they do not write the given format, in
+     * which case nothing is written and the value has to be written
+     * normally.</p>
+     *
+     * @param format The format the value is encoded in
+     * @param encoded The encoded value
+     * @return True if the value was written
+     * @throws IOException If there was an error writing to the target
+     */
+    default boolean writeEncoded(StreamingDataFormat format, ByteBuffer encoded) throws IOException {
+        return false;
+    }
+
+    /**
+     * Writes the given view with all of its contents.
+     *
+     * @param view The view to write
+     * @return This writer, for chaining
+     * @throws IOException If there was an error writing to the target
+     * @see DataView#writeTo(DataViewWriter)
+     */
+    default DataViewWriter writeView(DataView view) throws IOException {
+        view.writeTo(this);
+        return this;
+    }
+
+    /**
+     * Writes the given value, which may be a {@link DataView}, a
+     * {@link Map} or a {@link Collection} whose contents will be written
+     * as well.
+     *
+     * @param value The value to write
+     * @return This writer, for chaining
+     * @throws IOException If there was an error writing to the target
+     */
+    default DataViewWriter writeValue(Object value) throws IOException {
+        if (value instanceof DataView) {
+            return writeView((DataView) value);
+        } else if (value instanceof Map) {
+            beginView();
+            for (Map.Entry<?, ?> entry : ((Map<?, ?>) value).entrySet()) {
+                key(entry.getKey().toString());
+                writeValue(entry.getValue());
+            }
+            return endView();
+        } else if (value instanceof Collection) {
+            beginList();
+            for (Object element : (Collection<?>) value) {
+                writeValue(element);
+            }
+            return endList();
+        } else if (value instanceof int[]) {
+            return value((int[]) value);
+        } else if (value instanceof long[]) {
+            return value((long[]) value);
+        } else if (value instanceof double[]) {
+            return value((double[]) value);
+        }
+        return value(value);
+    }
+
+}
@@ -0,0 +1,139 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.data.persistence;
+
+import org.spongepowered.api.data.DataContainer;
+import org.spongepowered.api.data.DataView;
+import org.spongepowered.api.data.SharedDataContainer;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Represents a {@link DataFormat} that can read and write data
+ * incrementally, using a {@link DataViewReader} and a
+ * {@link DataViewWriter}, instead of materializing a complete
+ * {@link DataContainer}.
+ */
+public interface StreamingDataFormat extends DataFormat {
+
+    /**
+     * Creates a new {@link DataViewReader} reading from the given
+     * {@link InputStream}.
+     *
+     * @param input The input stream
+     * @return The reader
+     * @throws InvalidDataFormatException If the data in the stream was not a
+     *         supported format
+     * @throws IOException If there was an error reading from the stream
+     */
+    DataViewReader createReader(InputStream input) throws InvalidDataFormatException, IOException;
+
+    /**
+     * Creates a new {@link DataViewReader} decoding the remaining contents
+     * of the given {@link ByteBuffer}.
+     *
+     * <p>The data is decoded in place, values such as byte arrays may be
+     * returned as slices of the buffer. The buffer must therefore not be
+     * modified while the reader is in use.</p>
+     *
+     * @param buffer The buffer to decode
+     * @return The reader
+     * @throws InvalidDataFormatException If the data in the buffer was not a
+     *         supported format
+     * @throws IOException If there was an error decoding the buffer
+     */
+    DataViewReader createReader(ByteBuffer buffer) throws InvalidDataFormatException, IOException;
+
+    /**
+     * Creates a new {@link DataViewReader} decoding the file at the given
+     * path, which is mapped into memory instead of being read.
+     *
+     * @param path The path of the file
+     * @return The reader
+     * @throws InvalidDataFormatException If the data in the file was not a
+     *         supported format
+     * @throws IOException If there was an error mapping the file
+     */
+    default DataViewReader createReader(Path path) throws InvalidDataFormatException, IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            return createReader(channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()));
+        }
+    }
+
+    /**
+     * Creates a new {@link DataContainer} backed by the remaining contents
+     * of the given {@link ByteBuffer}. Nested views and lists are only
+     * decoded once they are first accessed, and are written back without
+     * being encoded again as long as they were not modified.
+     *
+     * <p>The buffer must not be modified while the container, or any of
+     * its copies, is in use.</p>
+     *
+     * <p>The data is not validated by this method. If a region can not be
+     * decoded, an {@link InvalidDataException} is thrown by the first
+     * method that accesses its contents, including
+     * {@link DataContainer#equals(Object)} and writing the container in
+     * another format.</p>
+     *
+     * @param buffer The buffer to decode
+     * @return The data container
+     * @see SharedDataContainer
+     */
+    default DataContainer readLazily(ByteBuffer buffer) {
+        return SharedDataContainer.decode(this, buffer);
+    }
+
+    /**
+     * Creates a new {@link DataViewWriter} writing to the given
+     * {@link OutputStream}.
+     *
+     * @param output The output stream
+     * @return The writer
+     * @throws IOException If there was an error writing to the stream
+     */
+    DataViewWriter createWriter(OutputStream output) throws IOException;
+
+    /**
+     * Writes the given {@link DataView} to the given {@link OutputStream} by
+     * streaming its contents through a {@link DataViewWriter}.
+     *
+     * @param output The output stream to write the data to
+     * @param data The DataView to write to the stream
+     * @throws IOException If there was an error writing to the stream
+     */
+    @Override
+    default void writeTo(OutputStream output, DataView data) throws IOException {
+        final DataViewWriter writer = createWriter(output);
+        writer.writeView(data);
+        writer.flush();
+    }
+
+}
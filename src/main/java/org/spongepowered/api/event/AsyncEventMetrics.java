@@ -0,0 +1,71 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.event;
+
+/**
+ * Metrics of the worker pool calling the async listeners of the
+ * {@link EventManager}, see {@link Listener#async()}.
+ *
+ * <p>Events for async listeners are queued up to the capacity of the pool.
+ * Once the queue is full, further events are dropped for async listeners
+ * and counted by {@link #getDroppedCount()}, rather than calling the
+ * listeners on the posting thread, which would slow down the main thread
+ * exactly when it is under the highest load. Implementations should log
+ * dropped events, without logging every single one of them.</p>
+ */
+public interface AsyncEventMetrics {
+
+    /**
+     * Gets the number of events currently queued for async listeners.
+     *
+     * @return The number of queued events
+     */
+    int getQueueSize();
+
+    /**
+     * Gets the maximum number of events that can be queued for async
+     * listeners.
+     *
+     * @return The capacity of the queue
+     */
+    int getQueueCapacity();
+
+    /**
+     * Gets the number of events that were passed to the async listeners by
+     * the worker pool.
+     *
+     * @return The number of completed events
+     */
+    long getCompletedCount();
+
+    /**
+     * Gets the number of events that were not passed to the async
+     * listeners, as the queue was full.
+     *
+     * @return The number of dropped events
+     */
+    long getDroppedCount();
+
+}
@@ -0,0 +1,57 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.event;
+
+import java.util.List;
+
+/**
+ * An {@link EventListener} that is able to handle a batch of events posted
+ * through {@link EventManager#postBatch(Class, List)} in a single call.
+ *
+ * <p>Events posted one at a time are still passed to
+ * {@link #handle(Event)}.</p>
+ *
+ * @param <T> The type of the event
+ */
+public interface BatchEventListener<T extends Event> extends EventListener<T> {
+
+    /**
+     * Called with all events of a batch registered to this listener, in the
+     * order they were posted. Events that were cancelled by earlier
+     * listeners are still contained in the batch.
+     *
+     * <p>The default implementation passes each event to
+     * {@link #handle(Event)}.</p>
+     *
+     * @param events The called events
+     * @throws Exception If an error occurs
+     */
+    default void handleBatch(List<? extends T> events) throws Exception {
+        for (T event : events) {
+            handle(event);
+        }
+    }
+
+}
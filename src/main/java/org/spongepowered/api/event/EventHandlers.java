@@ -0,0 +1,100 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.event;
+
+import java.util.List;
+
+/**
+ * The compiled handlers of the {@link EventManager} for a single
+ * {@link Event} type, in the order they are called.
+ *
+ * <p>Handlers are resolved once for the event type, including the listeners
+ * of all of its super types. Listeners registered through
+ * {@link EventManager#registerListeners(Object, Object)} are expected to be
+ * generated classes with their filters compiled in, rather than reflective
+ * invokers. An instance stays valid for the lifetime of the
+ * {@link EventManager}: registering or un-registering listeners updates the
+ * handlers in place, such that callers posting the same type of event many
+ * times may keep a reference to it.</p>
+ *
+ * @param <T> The type of event
+ */
+public interface EventHandlers<T extends Event> {
+
+    /**
+     * Gets the type of event the handlers are compiled for.
+     *
+     * @return The event type
+     */
+    Class<T> getEventClass();
+
+    /**
+     * Gets the number of handlers.
+     *
+     * @return The number of handlers
+     */
+    int size();
+
+    /**
+     * Gets whether there are no handlers for the event type, in which case
+     * the event does not need to be created.
+     *
+     * @return True if there are no handlers
+     */
+    default boolean isEmpty() {
+        return size() == 0;
+    }
+
+    /**
+     * Gets the handler at the given index, in the order they are called.
+     *
+     * @param index The index of the handler
+     * @return The handler
+     * @throws IndexOutOfBoundsException If the index is out of bounds
+     */
+    EventListener<? super T> get(int index);
+
+    /**
+     * Calls all handlers with the given event. This follows the same
+     * contract as {@link EventManager#post(Event)}, without looking up the
+     * handlers of the event type.
+     *
+     * @param event The event
+     * @return True if cancelled, false if not
+     */
+    boolean post(T event);
+
+    /**
+     * Calls all handlers with the given events. The handlers are called one
+     * after another, each handler receiving all of the events before the
+     * next handler is called. {@link BatchEventListener}s receive the whole
+     * batch in a single call.
+     *
+     * @param events The events
+     * @return True if any of the events was cancelled, false if not
+     */
+    boolean postBatch(List<? extends T> events);
+
+}
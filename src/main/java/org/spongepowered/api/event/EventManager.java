@@ -24,6 +24,13 @@
  */
 package org.spongepowered.api.event;
 
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
 /**
  * Manages the registration of event listeners and the dispatching of events.
  */
@@ -39,7 +46,8 @@ public interface EventManager {
      * @param plugin The plugin instance
      * @param obj The object
      * @throws IllegalArgumentException Thrown if {@code plugin} is not a plugin
-     *         instance
+     *         instance, or if an {@link Listener#async() async} listener
+     *         listens to a {@link Cancellable} event
      */
     void registerListeners(Object plugin, Object obj);
 
@@ -95,6 +103,27 @@ public interface EventManager {
     <T extends Event> void registerListener(Object plugin, Class<T> eventClass, Order order, boolean beforeModifications,
                                     EventListener<? super T> listener);
 
+    /**
+     * Registers an async event listener for a specific event class, which
+     * observes completed events on the worker pool of this manager.
+     *
+     * <p>Managers without a worker pool register the listener at
+     * {@link Order#POST} instead, to be called on the posting thread.</p>
+     *
+     * @param plugin The plugin instance
+     * @param eventClass The event to listen to
+     * @param listener The listener to receive the events
+     * @param <T> The type of the event
+     * @throws IllegalArgumentException If the event class is
+     *     {@link Cancellable}
+     * @see Listener#async()
+     */
+    default <T extends Event> void registerAsyncListener(Object plugin, Class<T> eventClass, EventListener<? super T> listener) {
+        checkArgument(!Cancellable.class.isAssignableFrom(eventClass), "Async listeners can not listen to cancellable event %s",
+                eventClass.getName());
+        registerListener(plugin, eventClass, Order.POST, listener);
+    }
+
     /**
      * Un-registers an object from receiving {@link Event}s.
      *
@@ -117,4 +146,69 @@ <T extends Event> void registerListener(Object plugin, Class<T> eventClass, Orde
      */
     boolean post(Event event);
 
+    /**
+     * Calls all of the given {@link Event}s to the listeners that listen to
+     * them, in the order of the collection. The handlers are only looked up
+     * once for consecutive events of the same class.
+     *
+     * @param events The events
+     * @return True if any of the events was cancelled, false if not
+     */
+    @SuppressWarnings("unchecked")
+    default boolean postAll(Collection<? extends Event> events) {
+        checkNotNull(events, "events");
+        boolean cancelled = false;
+        Class<?> eventClass = null;
+        EventHandlers<Event> handlers = null;
+        for (Event event : events) {
+            if (event.getClass() != eventClass) {
+                eventClass = event.getClass();
+                handlers = getHandlers((Class<Event>) eventClass);
+            }
+            cancelled |= handlers.post(event);
+        }
+        return cancelled;
+    }
+
+    /**
+     * Calls a batch of events of the same type to all listeners that listen
+     * to the type. The handlers are looked up once for the whole batch, see
+     * {@link EventHandlers#postBatch(List)}.
+     *
+     * <p>Only the listeners of the given event class and its super types
+     * are called, listeners of more specific types of the events are
+     * not.</p>
+     *
+     * @param eventClass The event class
+     * @param events The events
+     * @param <T> The type of the events
+     * @return True if any of the events was cancelled, false if not
+     */
+    default <T extends Event> boolean postBatch(Class<T> eventClass, List<T> events) {
+        checkNotNull(events, "events");
+        return getHandlers(eventClass).postBatch(events);
+    }
+
+    /**
+     * Gets the metrics of the worker pool calling async listeners, if this
+     * manager has one.
+     *
+     * @return The async listener metrics, or {@link Optional#empty()} if
+     *     async listeners are called on the posting thread
+     */
+    default Optional<AsyncEventMetrics> getAsyncMetrics() {
+        return Optional.empty();
+    }
+
+    /**
+     * Gets the compiled {@link EventHandlers} for a specific event class.
+     * The same instance is returned for the same event class, and it is
+     * updated whenever listeners are registered or un-registered.
+     *
+     * @param eventClass The event class
+     * @param <T> The type of the event
+     * @return The handlers of the event class
+     */
+    <T extends Event> EventHandlers<T> getHandlers(Class<T> eventClass);
+
 }
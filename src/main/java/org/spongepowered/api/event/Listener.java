@@ -57,4 +57,33 @@
      */
     boolean beforeModifications() default false;
 
+    /**
+     * Whether this listener should only observe completed events off the
+     * thread posting them. Async listeners are called on a bounded worker
+     * pool of the {@link EventManager} once all other listeners were called,
+     * and are not able to modify the event.
+     *
+     * <p>As they cannot take part in deciding the outcome of an event,
+     * async listeners are rejected for events that are {@link Cancellable},
+     * which need their listeners to be called synchronously. The
+     * {@link #order()} and {@link #beforeModifications()} of an async
+     * listener are ignored.</p>
+     *
+     * <p>The event is not copied for async listeners, they receive the same
+     * instance the synchronous listeners were called with. They may only
+     * read values of the event that are immutable, such as snapshots and
+     * transactions, and must not access mutable game objects, like entities
+     * and worlds, it refers to. Plugins posting an event must not modify it
+     * once it was posted.</p>
+     *
+     * <p>Events are dropped for async listeners if the queue of the worker
+     * pool is full, see {@link AsyncEventMetrics}. A manager without a
+     * worker pool calls async listeners on the posting thread at
+     * {@link Order#POST}.</p>
+     *
+     * @return If the listener should be called asynchronously
+     * @see EventManager#getAsyncMetrics()
+     */
+    boolean async() default false;
+
 }
@@ -39,12 +39,13 @@
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
-import java.util.HashSet;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
 import java.util.Optional;
-import java.util.Set;
 import java.util.StringJoiner;
+import java.util.concurrent.ConcurrentHashMap;
 
 import javax.annotation.Nullable;
 
@@ -142,6 +143,10 @@ public static Cause of(Iterable<NamedCause> iterable) {
     // lazy load
     @Nullable private Map<String, Object> namedObjectMap;
     @Nullable private ImmutableList<Object> immutableCauses;
+    // lazily built indices, filled in the first time a name or class is queried
+    @Nullable private ImmutableMap<String, Integer> nameIndex;
+    // volatile, as the map is published to other threads querying the cause
+    @Nullable private volatile Map<Class<?>, TypeIndex> typeIndex;
 
     Cause(NamedCause[] causes) {
         // basically, no validation, all the validation should take place calling this constructor
@@ -177,12 +182,8 @@ public Object root() {
      * @return The first element of the type, if available
      */
     public <T> Optional<T> first(Class<T> target) {
-        for (Object aCause : this.cause) {
-            if (target.isInstance(aCause)) {
-                return Optional.of((T) aCause);
-            }
-        }
-        return Optional.empty();
+        final TypeIndex index = typeIndex(target);
+        return index.isEmpty() ? Optional.empty() : Optional.of((T) index.objects.get(0));
     }
 
     /**
@@ -194,12 +195,8 @@ public <T> Optional<T> first(Class<T> target) {
      * @return The last element of the type, if available
      */
     public <T> Optional<T> last(Class<T> target) {
-        for (int i = this.cause.length - 1; i >= 0; i--) {
-            if (target.isInstance(this.cause[i])) {
-                return Optional.of((T) this.cause[i]);
-            }
-        }
-        return Optional.empty();
+        final TypeIndex index = typeIndex(target);
+        return index.isEmpty() ? Optional.empty() : Optional.of((T) index.objects.get(index.objects.size() - 1));
     }
 
     /**
@@ -214,13 +211,11 @@ public <T> Optional<T> last(Class<T> target) {
     public <T> Optional<T> get(String named, Class<T> expected) {
         checkArgument(named != null, "The name cannot be null!");
         checkArgument(expected != null, "The expected class cannot be null!");
-        for (int i = 0; i < this.names.length; i++) {
-            if (this.names[i].equalsIgnoreCase(named)) {
-                final Object object = this.cause[i];
-                if (expected.isInstance(object)) {
-                    return Optional.of((T) object);
-                }
-                return Optional.empty();
+        final int index = indexOf(named);
+        if (index != -1) {
+            final Object object = this.cause[index];
+            if (expected.isInstance(object)) {
+                return Optional.of((T) object);
             }
         }
         return Optional.empty();
@@ -238,8 +233,8 @@ public Optional<?> before(Class<?> clazz) {
         if (this.cause.length == 1) {
             return Optional.empty();
         }
-        for (int i = 0; i < this.cause.length; i++) {
-            if (clazz.isInstance(this.cause[i]) && i > 0) {
+        for (int i : typeIndex(clazz).indices) {
+            if (i > 0) {
                 return Optional.of(this.cause[i - 1]);
             }
         }
@@ -258,17 +253,8 @@ public Optional<?> before(String named) {
         if (this.cause.length == 1) {
             return Optional.empty();
         }
-        for (int i = 0; i < this.names.length; i++) {
-            if (this.names[i].equalsIgnoreCase(named)) {
-                try {
-                    final Object object = this.cause[i - 1];
-                    return Optional.of(object);
-                } catch (Exception e) {
-                    return Optional.empty();
-                }
-            }
-        }
-        return Optional.empty();
+        final int index = indexOf(named);
+        return index > 0 ? Optional.of(this.cause[index - 1]) : Optional.empty();
     }
 
     /**
@@ -283,8 +269,8 @@ public Optional<?> after(Class<?> clazz) {
         if (this.cause.length == 1) {
             return Optional.empty();
         }
-        for (int i = 0; i < this.cause.length; i++) {
-            if (clazz.isInstance(this.cause[i]) && i + 1 < this.cause.length) {
+        for (int i : typeIndex(clazz).indices) {
+            if (i + 1 < this.cause.length) {
                 return Optional.of(this.cause[i + 1]);
             }
         }
@@ -302,17 +288,8 @@ public Optional<?> after(String named) {
         if (this.cause.length == 1) {
             return Optional.empty();
         }
-        for (int i = 0; i < this.names.length; i++) {
-            if (this.names[i].equalsIgnoreCase(named) && i + 1 < this.cause.length) {
-                try {
-                    final Object object = this.cause[i + 1];
-                    return Optional.of(object);
-                } catch (Exception e) {
-                    return Optional.empty();
-                }
-            }
-        }
-        return Optional.empty();
+        final int index = indexOf(named);
+        return index != -1 && index + 1 < this.cause.length ? Optional.of(this.cause[index + 1]) : Optional.empty();
     }
 
     /**
@@ -322,13 +299,7 @@ public Optional<?> after(String named) {
      */
     public boolean containsType(Class<?> target) {
         checkArgument(target != null, "The provided class cannot be null!");
-        for (Object aCause : this.cause) {
-            if (target.isInstance(aCause)) {
-                return true;
-            }
-        }
-
-        return false;
+        return !typeIndex(target).isEmpty();
     }
 
     /**
@@ -356,12 +327,7 @@ public boolean contains(Object object) {
      */
     public boolean containsNamed(String named) {
         checkArgument(named != null, "The name cannot be null!");
-        for (String name : this.names) {
-            if (name.equalsIgnoreCase(named)) {
-                return true;
-            }
-        }
-        return false;
+        return indexOf(named) != -1;
     }
 
     /**
@@ -373,13 +339,7 @@ public boolean containsNamed(String named) {
      * @return An immutable list of the objects queried
      */
     public <T> List<T> allOf(Class<T> target) {
-        ImmutableList.Builder<T> builder = ImmutableList.builder();
-        for (Object aCause : this.cause) {
-            if (target.isInstance(aCause)) {
-                builder.add((T) aCause);
-            }
-        }
-        return builder.build();
+        return (List<T>) typeIndex(target).objects;
     }
 
     /**
@@ -481,6 +441,80 @@ public Map<String, Object> getNamedCauses() {
         return this.namedObjectMap;
     }
 
+    /**
+     * Gets the index of the first object with the given name, ignoring the
+     * case of the name, or -1 if there is none.
+     */
+    private int indexOf(String named) {
+        ImmutableMap<String, Integer> index = this.nameIndex;
+        if (index == null) {
+            if (this.names.length == 1) {
+                // Not worth building a map for a single name
+                return this.names[0].equalsIgnoreCase(named) ? 0 : -1;
+            }
+            final Map<String, Integer> map = new HashMap<>();
+            for (int i = 0; i < this.names.length; i++) {
+                map.putIfAbsent(this.names[i].toLowerCase(Locale.ENGLISH), i);
+            }
+            // The final fields of the immutable copy make it safe to publish
+            // through this plain field to other threads
+            this.nameIndex = index = ImmutableMap.copyOf(map);
+        }
+        final Integer i = index.get(named.toLowerCase(Locale.ENGLISH));
+        return i == null ? -1 : i;
+    }
+
+    /**
+     * Gets the positions and objects of this cause that are instances of the
+     * given class, building the index for the class if it was not queried
+     * before.
+     */
+    private TypeIndex typeIndex(Class<?> target) {
+        Map<Class<?>, TypeIndex> indices = this.typeIndex;
+        if (indices == null) {
+            // Causes may be shared between threads, lookups can happen
+            // concurrently. Racing threads may each create a map, in which
+            // case the indices of one of them are built again later.
+            this.typeIndex = indices = new ConcurrentHashMap<>(4);
+        }
+        TypeIndex index = indices.get(target);
+        if (index == null) {
+            index = new TypeIndex(this.cause, target);
+            indices.put(target, index);
+        }
+        return index;
+    }
+
+    private static final class TypeIndex {
+
+        private static final int[] NONE = new int[0];
+
+        final int[] indices;
+        final ImmutableList<Object> objects;
+
+        TypeIndex(Object[] cause, Class<?> target) {
+            int count = 0;
+            int[] indices = NONE;
+            final ImmutableList.Builder<Object> builder = ImmutableList.builder();
+            for (int i = 0; i < cause.length; i++) {
+                if (target.isInstance(cause[i])) {
+                    if (count == indices.length) {
+                        indices = Arrays.copyOf(indices, Math.max(4, count * 2));
+                    }
+                    indices[count++] = i;
+                    builder.add(cause[i]);
+                }
+            }
+            this.indices = count == indices.length ? indices : Arrays.copyOf(indices, count);
+            this.objects = builder.build();
+        }
+
+        boolean isEmpty() {
+            return this.indices.length == 0;
+        }
+
+    }
+
     @Override
     public boolean equals(@Nullable Object object) {
         if (object instanceof Cause) {
@@ -508,15 +542,27 @@ public String toString() {
     public static final class Builder implements ResettableBuilder<Cause, Builder> {
 
         List<NamedCause> causes = new ArrayList<>();
-        Set<String> namesUsed = new HashSet<>();
 
         Builder() {
 
         }
 
+        /**
+         * Checks whether the name is already used by one of the causes. Causes
+         * only contain a handful of names, so scanning them is cheaper than
+         * maintaining a set of the used names for every builder.
+         */
+        private boolean isNameUsed(String name) {
+            for (int i = 0; i < this.causes.size(); i++) {
+                if (this.causes.get(i).getName().equals(name)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
         Builder source(Object object) {
             this.causes.add(NamedCause.source(checkNotNull(object, "Source cannot be null!")));
-            this.namesUsed.add(NamedCause.SOURCE);
             return this;
         }
 
@@ -528,9 +574,8 @@ Builder source(Object object) {
          * @return This builder, for chaining
          */
         public Builder owner(Object object) {
-            checkArgument(!this.namesUsed.contains(NamedCause.OWNER), "Already contains an owner!");
+            checkArgument(!isNameUsed(NamedCause.OWNER), "Already contains an owner!");
             this.causes.add(NamedCause.owner(object));
-            this.namesUsed.add(NamedCause.OWNER);
             return this;
         }
 
@@ -542,9 +587,8 @@ public Builder owner(Object object) {
          * @return This builder, for chaining
          */
         public Builder notifier(Object object) {
-            checkArgument(!this.namesUsed.contains(NamedCause.NOTIFIER), "Already contains a notifier!");
+            checkArgument(!isNameUsed(NamedCause.NOTIFIER), "Already contains a notifier!");
             this.causes.add(NamedCause.notifier(object));
-            this.namesUsed.add(NamedCause.NOTIFIER);
             return this;
         }
 
@@ -557,9 +601,8 @@ public Builder notifier(Object object) {
          */
         public Builder named(NamedCause cause) {
             checkNotNull(cause, "NamedCause cannot be null!");
-            checkArgument(!this.namesUsed.contains(cause.getName()), "Already contains an entry for: {}", cause.getName());
+            checkArgument(!isNameUsed(cause.getName()), "Already contains an entry for: {}", cause.getName());
             this.causes.add(cause);
-            this.namesUsed.add(cause.getName());
             return this;
         }
 
@@ -573,9 +616,8 @@ public Builder named(NamedCause cause) {
          */
         public Builder named(String name, Object object) {
             checkNotNull(name, "Name cannot be null!");
-            checkArgument(!this.namesUsed.contains(name), "Already contains an entry for {}", name);
+            checkArgument(!isNameUsed(name), "Already contains an entry for {}", name);
             this.causes.add(NamedCause.of(name, object));
-            this.namesUsed.add(name);
             return this;
         }
 
@@ -594,18 +636,16 @@ public Builder suggestNamed(String name, Object object) {
             checkNotNull(name, "Name cannot be null!");
             checkNotNull(object, "Object cannot be null!");
             int iteration = 1;
-            if (this.namesUsed.contains(name)) {
+            if (isNameUsed(name)) {
                 while (true) {
                     final String newName = name + iteration++;
-                    if (!this.namesUsed.contains(newName)) {
+                    if (!isNameUsed(newName)) {
                         this.causes.add(NamedCause.of(newName, object));
-                        this.namesUsed.add(newName);
                         break;
                     }
                 }
             } else {
                 this.causes.add(NamedCause.of(name, object));
-                this.namesUsed.add(name);
             }
             return this;
         }
@@ -638,7 +678,6 @@ public Cause build() {
         public Builder from(Cause value) {
             for (int i = 0; i < value.cause.length; i++) {
                 this.causes.add(NamedCause.of(value.names[i], value.cause[i]));
-                this.namesUsed.add(value.names[i]);
             }
             return this;
         }
@@ -646,7 +685,6 @@ public Builder from(Cause value) {
         @Override
         public Builder reset() {
             this.causes.clear();
-            this.namesUsed.clear();
             return this;
         }
     }
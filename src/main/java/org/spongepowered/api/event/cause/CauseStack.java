@@ -0,0 +1,223 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.event.cause;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+import static com.google.common.base.Preconditions.checkState;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Optional;
+import java.util.Set;
+
+import javax.annotation.Nullable;
+
+/**
+ * A stack of cause objects from which the {@link Cause} of events is built.
+ * Objects are pushed before a series of events is posted and popped
+ * afterwards, the {@link #getCurrentCause() current cause} is built once and
+ * shared by all events until the stack changes.
+ *
+ * <p>The most recently pushed object is the {@link Cause#root() root} of the
+ * current cause, followed by the objects pushed before it. Objects pushed
+ * without a name are named {@link NamedCause#SOURCE}, names that are
+ * already used by objects higher up the stack are suffixed with an index
+ * as in {@link Cause.Builder#suggestNamed(String, Object)}.</p>
+ *
+ * <p>A cause stack is not thread safe, the stack of the server thread is
+ * available from {@code Sponge.getCauseStack()}.</p>
+ */
+public final class CauseStack {
+
+    private final List<String> names = new ArrayList<>();
+    private final List<Object> objects = new ArrayList<>();
+    @Nullable private Frame frame;
+    @Nullable private Cause cause;
+
+    /**
+     * Pushes an object onto the stack, making it the root of the current
+     * cause.
+     *
+     * @param object The object
+     * @return This stack, for chaining
+     */
+    public CauseStack pushCause(Object object) {
+        return pushCause(NamedCause.SOURCE, object);
+    }
+
+    /**
+     * Pushes an object with the given name onto the stack, making it the
+     * root of the current cause.
+     *
+     * @param name The name of the object
+     * @param object The object
+     * @return This stack, for chaining
+     */
+    public CauseStack pushCause(String name, Object object) {
+        checkNotNull(name, "name");
+        checkNotNull(object, "object");
+        this.names.add(name);
+        this.objects.add(object);
+        this.cause = null;
+        return this;
+    }
+
+    /**
+     * Pushes a {@link NamedCause} onto the stack, making its object the root
+     * of the current cause.
+     *
+     * @param cause The named cause
+     * @return This stack, for chaining
+     */
+    public CauseStack pushCause(NamedCause cause) {
+        checkNotNull(cause, "cause");
+        return pushCause(cause.getName(), cause.getCauseObject());
+    }
+
+    /**
+     * Pops the most recently pushed object from the stack. Objects pushed
+     * before the current {@link Frame} was pushed cannot be popped.
+     *
+     * @return The popped object
+     * @throws NoSuchElementException If there is no object to pop
+     */
+    public Object popCause() {
+        final int size = this.objects.size();
+        if (size <= (this.frame == null ? 0 : this.frame.size)) {
+            throw new NoSuchElementException("There is no cause to pop in the current frame");
+        }
+        this.names.remove(size - 1);
+        this.cause = null;
+        return this.objects.remove(size - 1);
+    }
+
+    /**
+     * Gets the most recently pushed object, if the stack is not empty.
+     *
+     * @return The root object of the current cause, if available
+     */
+    public Optional<Object> peekCause() {
+        return this.objects.isEmpty() ? Optional.empty() : Optional.of(this.objects.get(this.objects.size() - 1));
+    }
+
+    /**
+     * Gets whether the stack is empty, in which case there is no current
+     * cause.
+     *
+     * @return True if the stack is empty
+     */
+    public boolean isEmpty() {
+        return this.objects.isEmpty();
+    }
+
+    /**
+     * Pushes a new {@link Frame}. All objects pushed after the frame are
+     * popped once the frame is {@link Frame#close() closed}, objects pushed
+     * before it cannot be popped while the frame is open.
+     *
+     * <pre>{@code try (CauseStack.Frame frame = stack.pushFrame()) {
+     *     stack.pushCause(player);
+     *     // post events
+     * }}</pre>
+     *
+     * @return The new frame
+     */
+    public Frame pushFrame() {
+        this.frame = new Frame(this.objects.size(), this.frame);
+        return this.frame;
+    }
+
+    /**
+     * Gets the {@link Cause} made of all objects on the stack. The cause is
+     * only built again once the stack has changed.
+     *
+     * @return The current cause
+     * @throws IllegalStateException If the stack is empty
+     */
+    public Cause getCurrentCause() {
+        Cause cause = this.cause;
+        if (cause == null) {
+            checkState(!this.objects.isEmpty(), "Cannot create an empty Cause!");
+            final int size = this.objects.size();
+            final NamedCause[] causes = new NamedCause[size];
+            final Set<String> used = new HashSet<>();
+            for (int i = 0; i < size; i++) {
+                final int index = size - 1 - i;
+                final String name = this.names.get(index);
+                String unique = name;
+                for (int suffix = 1; !used.add(unique); suffix++) {
+                    unique = name + suffix;
+                }
+                causes[i] = NamedCause.of(unique, this.objects.get(index));
+            }
+            this.cause = cause = new Cause(causes);
+        }
+        return cause;
+    }
+
+    /**
+     * A frame of a {@link CauseStack}, see {@link CauseStack#pushFrame()}.
+     */
+    public final class Frame implements AutoCloseable {
+
+        final int size;
+        @Nullable private final Frame previous;
+        private boolean closed;
+
+        Frame(int size, @Nullable Frame previous) {
+            this.size = size;
+            this.previous = previous;
+        }
+
+        /**
+         * Pops all objects pushed after this frame, and restores the frame
+         * that was current when this frame was pushed. Closing a frame more
+         * than once has no effect.
+         *
+         * @throws IllegalStateException If a frame pushed after this frame
+         *     is still open
+         */
+        @Override
+        public void close() {
+            if (this.closed) {
+                return;
+            }
+            final CauseStack stack = CauseStack.this;
+            checkState(stack.frame == this, "Frames must be closed in the reverse order they were pushed");
+            this.closed = true;
+            final int size = stack.objects.size();
+            if (size != this.size) {
+                stack.objects.subList(this.size, size).clear();
+                stack.names.subList(this.size, size).clear();
+                stack.cause = null;
+            }
+            stack.frame = this.previous;
+        }
+
+    }
+
+}
@@ -123,6 +123,11 @@ interface IndexedMessageChannel extends ChannelBinding {
          * Sends the message to the player across this channel. The message may
          * not be sent if the player doesn't have a registered handler.
          *
+         * <p>The buffer the message is written to may be a
+         * {@link CompositeChannelBuf}, in which case payloads written with
+         * {@link ChannelBuf#writeBytes(ChannelBuf)} are sent after the
+         * message id without being copied.</p>
+         *
          * @param player The player to send the message to
          * @param message The message to send
          */
@@ -199,6 +204,37 @@ interface RawDataChannel extends ChannelBinding {
          */
         void sendToAll(Consumer<ChannelBuf> payload);
 
+        /**
+         * Sends the readable bytes of the given buffer to the player across
+         * this channel, without modifying the indexes of the buffer. The
+         * same buffer may be sent to many players without encoding the
+         * payload again.
+         *
+         * <p>By default, the bytes are copied through
+         * {@link #sendTo(Player, Consumer)}.</p>
+         *
+         * <p>A {@link CompositeChannelBuf} is written to the connection of
+         * the player with a gathering write, without copying its
+         * components.</p>
+         *
+         * @param player The player to send the message to
+         * @param payload The buffer to send
+         */
+        default void sendTo(Player player, ChannelBuf payload) {
+            sendTo(player, buf -> buf.writeBytes(payload));
+        }
+
+        /**
+         * Sends the readable bytes of the given buffer to all players on the
+         * server, without modifying the indexes of the buffer.
+         *
+         * @param payload The buffer to send
+         * @see #sendTo(Player, ChannelBuf)
+         */
+        default void sendToAll(ChannelBuf payload) {
+            sendToAll(buf -> buf.writeBytes(payload));
+        }
+
     }
 
 }
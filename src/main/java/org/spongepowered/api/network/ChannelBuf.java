@@ -26,6 +26,7 @@
 
 import org.spongepowered.api.data.DataView;
 
+import java.nio.ByteBuffer;
 import java.nio.ByteOrder;
 import java.util.UUID;
 
@@ -393,6 +394,71 @@ public interface ChannelBuf {
      */
     byte[] readBytes(int index, int length);
 
+    /**
+     * Gets a read-only view of the given number of bytes at the current
+     * readerIndex and increases the readerIndex by the length.
+     *
+     * <p>Implementations return a view of the memory of this buffer without
+     * copying it, which remains valid until this buffer is modified or
+     * {@link PooledChannelBuf#release() released}. By default, the bytes
+     * are copied.</p>
+     *
+     * @param length The number of bytes
+     * @return The view of the bytes
+     */
+    default ByteBuffer readByteBuffer(int length) {
+        return ByteBuffer.wrap(readBytes(length)).asReadOnlyBuffer();
+    }
+
+    /**
+     * Gets a read-only view of the given number of bytes at the specified
+     * absolute index in this buffer. This method does not modify
+     * readerIndex or writerIndex of this buffer.
+     *
+     * @param index The index of the first byte
+     * @param length The number of bytes
+     * @return The view of the bytes
+     * @see #readByteBuffer(int)
+     */
+    default ByteBuffer getByteBuffer(int index, int length) {
+        return ByteBuffer.wrap(readBytes(index, length)).asReadOnlyBuffer();
+    }
+
+    /**
+     * Sets the remaining bytes of the given buffer at the current writerIndex
+     * and increases the writerIndex by their number. The position of the
+     * given buffer is moved to its limit.
+     *
+     * @param data The bytes to write
+     * @return This stream for chaining
+     */
+    default ChannelBuf writeBytes(ByteBuffer data) {
+        if (data.hasArray()) {
+            writeBytes(data.array(), data.arrayOffset() + data.position(), data.remaining());
+            data.position(data.limit());
+        } else {
+            while (data.hasRemaining()) {
+                writeByte(data.get());
+            }
+        }
+        return this;
+    }
+
+    /**
+     * Sets the readable bytes of the given buffer at the current writerIndex
+     * and increases the writerIndex by their number. The indexes of the
+     * given buffer are not modified.
+     *
+     * <p>A {@link CompositeChannelBuf} adds the given buffer as a component
+     * instead of copying its bytes.</p>
+     *
+     * @param data The buffer to write
+     * @return This stream for chaining
+     */
+    default ChannelBuf writeBytes(ChannelBuf data) {
+        return writeBytes(data.getByteBuffer(data.readerIndex(), data.available()));
+    }
+
     /**
      * Sets the specified short integer at the current writerIndex and
      * increases the writerIndex by 2 in this buffer.
@@ -764,6 +830,40 @@ public interface ChannelBuf {
      */
     String getUTF(int index);
 
+    /**
+     * Gets a string at the current readerIndex, as encoded by
+     * {@link #writeString(String)}, and appends it to the given builder
+     * instead of creating a new string. This allows decoding many strings
+     * into a single reused builder.
+     *
+     * @param sink The builder to append the string to
+     * @return This stream for chaining
+     */
+    default ChannelBuf readString(StringBuilder sink) {
+        final int length = readVarInt();
+        final int index = readerIndex();
+        setReadIndex(index + length);
+        Utf8.decode(this, index, length, sink);
+        return this;
+    }
+
+    /**
+     * Gets a string at the current readerIndex, as encoded by
+     * {@link #writeUTF(String)}, and appends it to the given builder
+     * instead of creating a new string.
+     *
+     * @param sink The builder to append the string to
+     * @return This stream for chaining
+     * @see #readString(StringBuilder)
+     */
+    default ChannelBuf readUTF(StringBuilder sink) {
+        final int length = readShort() & 0xffff;
+        final int index = readerIndex();
+        setReadIndex(index + length);
+        Utf8.decode(this, index, length, sink);
+        return this;
+    }
+
     /**
      * Sets the specified {@link UUID} at the current writerIndex and
      * increases the writerIndex by 16 in this buffer.
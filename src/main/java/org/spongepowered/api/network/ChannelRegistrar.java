@@ -148,4 +148,35 @@ default ChannelBinding.RawDataChannel getOrCreateRaw(Object plugin, String chann
      */
     boolean isChannelAvailable(String channelName);
 
+    /**
+     * Allocates a {@link PooledChannelBuf} with at least the given capacity,
+     * which grows as data is written to it.
+     *
+     * <p>Registrars that do not pool buffers return
+     * {@link Optional#empty()}, in which case the payload is written to the
+     * buffer passed to the consumer of a {@link ChannelBinding.RawDataChannel}
+     * instead.</p>
+     *
+     * @param initialCapacity The initial capacity
+     * @return The buffer, if pooled buffers are supported
+     */
+    default Optional<PooledChannelBuf> allocateBuffer(int initialCapacity) {
+        return Optional.empty();
+    }
+
+    /**
+     * Allocates an empty {@link CompositeChannelBuf}, to which existing
+     * buffers can be added without copying them.
+     *
+     * <p>Registrars that do not support composite buffers return
+     * {@link Optional#empty()}, in which case the buffers are copied by
+     * {@link ChannelBuf#writeBytes(ChannelBuf)} into the buffer passed to
+     * the consumer of a {@link ChannelBinding.RawDataChannel}.</p>
+     *
+     * @return The buffer, if composite buffers are supported
+     */
+    default Optional<CompositeChannelBuf> allocateCompositeBuffer() {
+        return Optional.empty();
+    }
+
 }
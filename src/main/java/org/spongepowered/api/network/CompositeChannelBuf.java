@@ -0,0 +1,114 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.network;
+
+import java.nio.ByteBuffer;
+import java.nio.channels.GatheringByteChannel;
+
+/**
+ * A {@link ChannelBuf} which stitches other buffers together without
+ * copying them, such that a header can be written in front of a large
+ * payload which was encoded once. Writing to the transport uses the
+ * {@link #getByteBuffers() buffers of the components} as a gathering
+ * write, so the payload is not copied either.
+ *
+ * <p>Added components are shared with the composite, modifying their
+ * content modifies the content of the composite. Releasing the composite
+ * releases every {@link PooledChannelBuf pooled} component.</p>
+ *
+ * @see ChannelRegistrar#allocateCompositeBuffer()
+ */
+public interface CompositeChannelBuf extends PooledChannelBuf {
+
+    /**
+     * Appends the readable bytes of the given buffer as a new component and
+     * increases the writerIndex by their number. The indexes of the given
+     * buffer are not modified.
+     *
+     * <p>If the buffer is a {@link PooledChannelBuf}, the composite takes
+     * over the reference of the caller, callers which keep using the buffer
+     * must {@link PooledChannelBuf#retain() retain} it first.</p>
+     *
+     * @param buffer The buffer to append
+     * @return This buffer
+     */
+    CompositeChannelBuf addComponent(ChannelBuf buffer);
+
+    /**
+     * Appends the readable bytes of the given buffers as new components.
+     *
+     * @param buffers The buffers to append
+     * @return This buffer
+     * @see #addComponent(ChannelBuf)
+     */
+    default CompositeChannelBuf addComponents(ChannelBuf... buffers) {
+        for (ChannelBuf buffer : buffers) {
+            addComponent(buffer);
+        }
+        return this;
+    }
+
+    /**
+     * Gets the number of components of this buffer.
+     *
+     * @return The number of components
+     */
+    int getComponentCount();
+
+    /**
+     * Gets the component at the given index.
+     *
+     * @param index The index of the component
+     * @return The component
+     * @throws IndexOutOfBoundsException If there is no such component
+     */
+    ChannelBuf getComponent(int index);
+
+    /**
+     * Gets read-only views of the readable bytes of this buffer, one for
+     * every component they span, which can be written at once by a
+     * {@link GatheringByteChannel}.
+     *
+     * @return The views of the readable bytes
+     */
+    ByteBuffer[] getByteBuffers();
+
+    /**
+     * Appends the readable bytes of the given buffer as a new component,
+     * rather than copying them, if it is not pooled. Pooled buffers are
+     * retained by the composite.
+     *
+     * @param data The buffer to write
+     * @return This buffer
+     */
+    @Override
+    default ChannelBuf writeBytes(ChannelBuf data) {
+        if (data instanceof PooledChannelBuf) {
+            ((PooledChannelBuf) data).retain();
+        }
+        return addComponent(data);
+    }
+
+}
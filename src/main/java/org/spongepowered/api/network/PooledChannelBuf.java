@@ -0,0 +1,76 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.network;
+
+/**
+ * A {@link ChannelBuf} whose memory is taken from a pool, typically of
+ * direct buffers, and returned to it once the buffer is no longer
+ * referenced. This allows data sent every tick to be encoded without
+ * allocating new buffers.
+ *
+ * <p>A pooled buffer starts with a reference count of one. Every
+ * {@link #retain()} must be matched with a {@link #release()}, and the
+ * buffer may not be used once its reference count reached zero. Sending a
+ * pooled buffer through a {@link ChannelBinding.RawDataChannel} does not
+ * release it.</p>
+ *
+ * @see ChannelRegistrar#allocateBuffer(int)
+ */
+public interface PooledChannelBuf extends ChannelBuf, AutoCloseable {
+
+    /**
+     * Gets the current reference count of this buffer.
+     *
+     * @return The reference count
+     */
+    int refCount();
+
+    /**
+     * Increases the reference count of this buffer by one.
+     *
+     * @return This buffer
+     */
+    PooledChannelBuf retain();
+
+    /**
+     * Decreases the reference count of this buffer by one, and returns the
+     * memory of the buffer to the pool if it reached zero.
+     *
+     * @return Whether the reference count reached zero
+     * @throws IllegalStateException If the buffer was already released
+     */
+    boolean release();
+
+    /**
+     * Releases this buffer.
+     *
+     * @see #release()
+     */
+    @Override
+    default void close() {
+        release();
+    }
+
+}
@@ -0,0 +1,84 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.network;
+
+/**
+ * Decodes UTF-8 strings of a {@link ChannelBuf} without allocating.
+ */
+final class Utf8 {
+
+    private static final char REPLACEMENT = 0xfffd;
+
+    /**
+     * Decodes the UTF-8 bytes in the given range of the buffer, including
+     * the modified UTF-8 of {@link java.io.DataInput#readUTF()}, and appends
+     * them to the builder. Malformed bytes are replaced with U+FFFD.
+     */
+    static void decode(ChannelBuf buf, int index, int length, StringBuilder sink) {
+        final int end = index + length;
+        sink.ensureCapacity(sink.length() + length);
+        int i = index;
+        while (i < end) {
+            final int b = buf.getByte(i++) & 0xff;
+            final int extra;
+            int codePoint;
+            if (b < 0x80) {
+                sink.append((char) b);
+                continue;
+            } else if (b >= 0xc0 && b < 0xe0) {
+                extra = 1;
+                codePoint = b & 0x1f;
+            } else if (b >= 0xe0 && b < 0xf0) {
+                extra = 2;
+                codePoint = b & 0x0f;
+            } else if (b >= 0xf0 && b < 0xf8) {
+                extra = 3;
+                codePoint = b & 0x07;
+            } else {
+                sink.append(REPLACEMENT);
+                continue;
+            }
+            int read = 0;
+            while (read < extra && i < end) {
+                final int c = buf.getByte(i) & 0xff;
+                if ((c & 0xc0) != 0x80) {
+                    break;
+                }
+                codePoint = (codePoint << 6) | (c & 0x3f);
+                i++;
+                read++;
+            }
+            if (read < extra || codePoint > Character.MAX_CODE_POINT) {
+                sink.append(REPLACEMENT);
+            } else {
+                sink.appendCodePoint(codePoint);
+            }
+        }
+    }
+
+    private Utf8() {
+    }
+
+}
@@ -78,6 +78,21 @@ public interface ServiceManager {
      */
     <T> Optional<ProviderRegistration<T>> getRegistration(Class<T> service);
 
+    /**
+     * Gets a {@link ServiceReference} for the given service, which always
+     * returns the current provider of the service. This may be called
+     * before a provider is registered.
+     *
+     * <p>Code requesting a service frequently should obtain a reference
+     * once and keep it, rather than calling {@link #provide(Class)}
+     * every time.</p>
+     *
+     * @param service The service
+     * @param <T> The type of service
+     * @return The service reference
+     */
+    <T> ServiceReference<T> getReference(Class<T> service);
+
     /**
      * Gets whether the class of the type of service is already registered with
      * this manager. This does not register or unregister any services.
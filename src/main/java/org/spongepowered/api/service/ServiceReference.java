@@ -0,0 +1,71 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.service;
+
+import java.util.Optional;
+
+/**
+ * A handle to the current provider of a service, obtained once through
+ * {@link ServiceManager#getReference(Class)}. The handle always reflects the
+ * provider most recently registered with
+ * {@link ServiceManager#setProvider(Object, Class, Object)}, and reading it
+ * does not allocate, which makes it suitable for frequently called code.
+ *
+ * @param <T> The type of service
+ */
+public interface ServiceReference<T> {
+
+    /**
+     * Gets the service of this reference.
+     *
+     * @return The service
+     */
+    Class<T> getService();
+
+    /**
+     * Gets the current provider of the service, if one is registered.
+     *
+     * @return The provider, if available
+     */
+    Optional<T> get();
+
+    /**
+     * Gets the current provider of the service, raising an unchecked
+     * exception if a provider does not exist.
+     *
+     * @return The provider
+     * @throws ProvisioningException Thrown if no provider is registered
+     */
+    T getUnchecked() throws ProvisioningException;
+
+    /**
+     * Gets the current {@link ProviderRegistration} of the service, if one
+     * is registered.
+     *
+     * @return The registration, if available
+     */
+    Optional<ProviderRegistration<T>> getRegistration();
+
+}
@@ -36,6 +36,7 @@
 
 import java.util.Optional;
 import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicReference;
 import javax.annotation.Nullable;
 import javax.inject.Inject;
 
@@ -45,7 +46,7 @@
 @Singleton
 public class SimpleServiceManager implements ServiceManager {
 
-    private final ConcurrentMap<Class<?>, ProviderRegistration<?>> providers =
+    private final ConcurrentMap<Class<?>, Reference<?>> references =
             new MapMaker().concurrencyLevel(3).makeMap();
     private final PluginManager pluginManager;
 
@@ -75,47 +76,108 @@ public <T> void setProvider(Object plugin, Class<T> service, T provider) {
         }
 
         PluginContainer container = containerOptional.get();
-        ProviderRegistration<?> oldProvider = this.providers.put(service, new Provider<>(container, service, provider));
+        Provider<T> newProvider = new Provider<>(container, service, provider);
+        @Nullable Provider<T> oldProvider = reference(service).provider.getAndSet(newProvider);
         Sponge.getEventManager().post(SpongeEventFactory.createChangeServiceProviderEvent(Cause.source(container).build(),
-                this.providers.get(service), Optional.ofNullable(oldProvider)));
+                newProvider, Optional.ofNullable(oldProvider)));
     }
 
-
-    @SuppressWarnings("unchecked")
     @Override
     public <T> Optional<T> provide(Class<T> service) {
         checkNotNull(service, "service");
-        @Nullable ProviderRegistration<T> provider = (ProviderRegistration<T>) this.providers.get(service);
-        return provider != null ? Optional.of(provider.getProvider()) : Optional.empty();
+        @Nullable Reference<T> reference = getExistingReference(service);
+        return reference != null ? reference.get() : Optional.empty();
     }
 
-    @SuppressWarnings("unchecked")
     @Override
     public <T> Optional<ProviderRegistration<T>> getRegistration(Class<T> service) {
-        return Optional.ofNullable((ProviderRegistration<T>) this.providers.get(service));
+        @Nullable Reference<T> reference = getExistingReference(service);
+        return reference != null ? reference.getRegistration() : Optional.empty();
     }
 
-    @SuppressWarnings("unchecked")
     @Override
     public <T> T provideUnchecked(Class<T> service) throws ProvisioningException {
         checkNotNull(service, "service");
-        @Nullable ProviderRegistration<T> provider = (ProviderRegistration<T>) this.providers.get(service);
-        if (provider == null) {
-            throw new ProvisioningException("No provider is registered for the service '" + service.getName() + "'", service);
+        @Nullable Reference<T> reference = getExistingReference(service);
+        if (reference == null) {
+            throw Reference.notRegistered(service);
+        }
+        return reference.getUnchecked();
+    }
+
+    @Override
+    public <T> ServiceReference<T> getReference(Class<T> service) {
+        checkNotNull(service, "service");
+        return reference(service);
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> Reference<T> reference(Class<T> service) {
+        return (Reference<T>) this.references.computeIfAbsent(service, Reference::new);
+    }
+
+    @SuppressWarnings("unchecked")
+    @Nullable
+    private <T> Reference<T> getExistingReference(Class<T> service) {
+        // Avoids creating references for services which are never registered
+        return (Reference<T>) this.references.get(service);
+    }
+
+    private static final class Reference<T> implements ServiceReference<T> {
+
+        static ProvisioningException notRegistered(Class<?> service) {
+            return new ProvisioningException("No provider is registered for the service '" + service.getName() + "'", service);
+        }
+
+        private final Class<T> service;
+        final AtomicReference<Provider<T>> provider = new AtomicReference<>();
+
+        Reference(Class<T> service) {
+            this.service = service;
+        }
+
+        @Override
+        public Class<T> getService() {
+            return this.service;
+        }
+
+        @Override
+        public Optional<T> get() {
+            @Nullable Provider<T> provider = this.provider.get();
+            return provider != null ? provider.optional : Optional.empty();
+        }
+
+        @Override
+        public T getUnchecked() throws ProvisioningException {
+            @Nullable Provider<T> provider = this.provider.get();
+            if (provider == null) {
+                throw notRegistered(this.service);
+            }
+            return provider.provider;
+        }
+
+        @Override
+        public Optional<ProviderRegistration<T>> getRegistration() {
+            @Nullable Provider<T> provider = this.provider.get();
+            return provider != null ? provider.registration : Optional.empty();
         }
-        return provider.getProvider();
     }
 
     private static class Provider<T> implements ProviderRegistration<T> {
 
         private final PluginContainer container;
         private final Class<T> service;
-        private final T provider;
+        final T provider;
+        // Created once, such that references can return them without allocating
+        final Optional<T> optional;
+        final Optional<ProviderRegistration<T>> registration;
 
         Provider(PluginContainer container, Class<T> service, T provider) {
             this.container = container;
             this.service = service;
             this.provider = provider;
+            this.optional = Optional.of(provider);
+            this.registration = Optional.of(this);
         }
 
         @Override
@@ -0,0 +1,456 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.service.ban;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.hash.BloomFilter;
+import com.google.common.hash.Funnel;
+import org.spongepowered.api.profile.GameProfile;
+import org.spongepowered.api.util.ban.Ban;
+
+import java.net.InetAddress;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+
+import javax.annotation.Nullable;
+
+/**
+ * An in-memory index of bans, which {@link BanService} implementations may
+ * use to answer the lookups of every login without scanning
+ * {@link BanService#getBans()}.
+ *
+ * <ul>
+ *     <li>Profile bans are looked up by unique id, behind a Bloom filter
+ *     which answers most lookups of profiles that are not banned without
+ *     touching the bans themselves.</li>
+ *     <li>IP bans are kept in a binary trie of the address bits, such that
+ *     bans of address ranges ({@link Ban.Ip#getPrefixLength()}) are found
+ *     in time proportional to the length of the address.</li>
+ *     <li>Bans with an expiration date are kept in a timing wheel, and
+ *     {@link #expire(Instant)} only visits the bans which expired since it
+ *     was last called.</li>
+ * </ul>
+ *
+ * <p>Lookups never return expired bans, even before they were removed by
+ * {@link #expire(Instant)}.</p>
+ *
+ * <p>This class is thread-safe. Lookups do not lock.</p>
+ */
+public final class BanIndex {
+
+    private static final Funnel<UUID> UUID_FUNNEL = (uuid, into) -> into
+            .putLong(uuid.getMostSignificantBits())
+            .putLong(uuid.getLeastSignificantBits());
+    private static final double FALSE_POSITIVE_PROBABILITY = 0.01;
+    private static final int MIN_FILTER_CAPACITY = 1024;
+    private static final int WHEEL_SIZE = 512;
+
+    private final ConcurrentMap<UUID, Ban.Profile> profileBans = new ConcurrentHashMap<>();
+    // Never modified once published, as BloomFilter is not thread-safe. Bans
+    // are added rarely compared to lookups, so the filter is copied, updated
+    // and published again while holding the lock
+    private volatile BloomFilter<UUID> profileFilter;
+    private int profileFilterCapacity;
+    private int profileFilterRemovals;
+
+    private final Set<Ban.Ip> ipBans = ConcurrentHashMap.newKeySet();
+    private volatile AddressNode ipv4Bans = AddressNode.EMPTY;
+    private volatile AddressNode ipv6Bans = AddressNode.EMPTY;
+
+    private final long tickMillis;
+    private final List<List<Expiry>> wheel = new ArrayList<>(WHEEL_SIZE);
+    private long currentTick;
+
+    /**
+     * Creates a new ban index, which expires bans with a precision of one
+     * second.
+     */
+    public BanIndex() {
+        this(1, TimeUnit.SECONDS);
+    }
+
+    /**
+     * Creates a new ban index, which expires bans with the given precision.
+     *
+     * @param precision The precision of expirations
+     * @param unit The unit of the precision
+     */
+    public BanIndex(long precision, TimeUnit unit) {
+        this.tickMillis = unit.toMillis(precision);
+        checkArgument(this.tickMillis > 0, "precision must be at least one millisecond");
+        for (int i = 0; i < WHEEL_SIZE; i++) {
+            this.wheel.add(new ArrayList<>());
+        }
+        this.currentTick = System.currentTimeMillis() / this.tickMillis;
+        this.profileFilterCapacity = MIN_FILTER_CAPACITY;
+        this.profileFilter = BloomFilter.create(UUID_FUNNEL, this.profileFilterCapacity, FALSE_POSITIVE_PROBABILITY);
+    }
+
+    /**
+     * Adds a ban to the index, replacing the ban of the same profile or
+     * address range.
+     *
+     * @param ban The ban
+     * @return The replaced ban, if any
+     */
+    public synchronized Optional<? extends Ban> add(Ban ban) {
+        checkNotNull(ban, "ban");
+        if (ban instanceof Ban.Profile) {
+            final UUID uniqueId = ((Ban.Profile) ban).getProfile().getUniqueId();
+            if (this.profileBans.size() >= this.profileFilterCapacity) {
+                rebuildProfileFilter(this.profileFilterCapacity * 2);
+            }
+            if (!this.profileFilter.mightContain(uniqueId)) {
+                final BloomFilter<UUID> filter = this.profileFilter.copy();
+                filter.put(uniqueId);
+                this.profileFilter = filter;
+            }
+        }
+        return put(ban);
+    }
+
+    /**
+     * Adds all of the given bans to the index, like {@link #add(Ban)}. The
+     * filter of the profile bans is built once for all of them, rather than
+     * copied for every ban, which makes this the way to load many bans.
+     *
+     * <p>Lookups may not find the added profile bans until this method
+     * returns.</p>
+     *
+     * @param bans The bans
+     */
+    public synchronized void addAll(Collection<? extends Ban> bans) {
+        checkNotNull(bans, "bans");
+        try {
+            for (Ban ban : bans) {
+                checkNotNull(ban, "ban");
+                put(ban);
+            }
+        } finally {
+            // Also covers the bans added before an invalid one
+            int capacity = this.profileFilterCapacity;
+            while (capacity <= this.profileBans.size()) {
+                capacity *= 2;
+            }
+            rebuildProfileFilter(capacity);
+        }
+    }
+
+    /**
+     * Adds the ban without updating the filter of the profile bans.
+     */
+    private Optional<? extends Ban> put(Ban ban) {
+        final Optional<? extends Ban> previous;
+        if (ban instanceof Ban.Profile) {
+            final UUID uniqueId = ((Ban.Profile) ban).getProfile().getUniqueId();
+            previous = Optional.ofNullable(this.profileBans.put(uniqueId, (Ban.Profile) ban));
+        } else if (ban instanceof Ban.Ip) {
+            final Ban.Ip ipBan = (Ban.Ip) ban;
+            final byte[] address = ipBan.getAddress().getAddress();
+            final int prefixLength = ipBan.getPrefixLength();
+            checkArgument(prefixLength >= 0 && prefixLength <= address.length * 8, "invalid prefix length: %s", prefixLength);
+            final AddressNode root = address.length == 4 ? this.ipv4Bans : this.ipv6Bans;
+            @Nullable final Ban.Ip replaced = root.get(address, prefixLength);
+            setRoot(address, root.with(address, 0, prefixLength, ipBan));
+            if (replaced != null) {
+                this.ipBans.remove(replaced);
+            }
+            this.ipBans.add(ipBan);
+            previous = Optional.ofNullable(replaced);
+        } else {
+            throw new IllegalArgumentException("Unsupported ban: " + ban);
+        }
+        ban.getExpirationDate().ifPresent(expiration -> schedule(ban, expiration));
+        return previous;
+    }
+
+    /**
+     * Removes a ban from the index.
+     *
+     * @param ban The ban
+     * @return Whether the ban was removed
+     */
+    public synchronized boolean remove(Ban ban) {
+        checkNotNull(ban, "ban");
+        if (ban instanceof Ban.Profile) {
+            if (!this.profileBans.remove(((Ban.Profile) ban).getProfile().getUniqueId(), ban)) {
+                return false;
+            }
+            // Bloom filters do not support removals, rebuild it once it holds too many removed bans
+            if (++this.profileFilterRemovals > this.profileFilterCapacity / 2) {
+                rebuildProfileFilter(Math.max(MIN_FILTER_CAPACITY, this.profileBans.size() * 2));
+            }
+            return true;
+        } else if (ban instanceof Ban.Ip) {
+            if (!this.ipBans.remove(ban)) {
+                return false;
+            }
+            final Ban.Ip ipBan = (Ban.Ip) ban;
+            final byte[] address = ipBan.getAddress().getAddress();
+            final AddressNode root = address.length == 4 ? this.ipv4Bans : this.ipv6Bans;
+            setRoot(address, root.with(address, 0, ipBan.getPrefixLength(), null));
+            return true;
+        }
+        return false;
+    }
+
+    private void setRoot(byte[] address, @Nullable AddressNode root) {
+        if (root == null) {
+            root = AddressNode.EMPTY;
+        }
+        if (address.length == 4) {
+            this.ipv4Bans = root;
+        } else {
+            this.ipv6Bans = root;
+        }
+    }
+
+    private void rebuildProfileFilter(int capacity) {
+        final BloomFilter<UUID> filter = BloomFilter.create(UUID_FUNNEL, capacity, FALSE_POSITIVE_PROBABILITY);
+        for (UUID uniqueId : this.profileBans.keySet()) {
+            filter.put(uniqueId);
+        }
+        this.profileFilterCapacity = capacity;
+        this.profileFilterRemovals = 0;
+        this.profileFilter = filter;
+    }
+
+    /**
+     * Gets the ban of the profile with the given unique id, if it is banned.
+     *
+     * @param uniqueId The unique id of the profile
+     * @return The ban, if available
+     */
+    public Optional<Ban.Profile> getBanFor(UUID uniqueId) {
+        checkNotNull(uniqueId, "uniqueId");
+        if (!this.profileFilter.mightContain(uniqueId)) {
+            return Optional.empty();
+        }
+        final Ban.Profile ban = this.profileBans.get(uniqueId);
+        return ban == null || isExpired(ban) ? Optional.empty() : Optional.of(ban);
+    }
+
+    /**
+     * Gets the ban of the given profile, if it is banned.
+     *
+     * @param profile The profile
+     * @return The ban, if available
+     */
+    public Optional<Ban.Profile> getBanFor(GameProfile profile) {
+        return getBanFor(profile.getUniqueId());
+    }
+
+    /**
+     * Gets the most specific ban covering the given address, if it is
+     * banned.
+     *
+     * @param address The address
+     * @return The ban, if available
+     */
+    public Optional<Ban.Ip> getBanFor(InetAddress address) {
+        checkNotNull(address, "address");
+        final byte[] bytes = address.getAddress();
+        AddressNode node = bytes.length == 4 ? this.ipv4Bans : this.ipv6Bans;
+        @Nullable Ban.Ip ban = null;
+        for (int i = 0; ; i++) {
+            if (node.ban != null && !isExpired(node.ban)) {
+                ban = node.ban;
+            }
+            if (i == bytes.length * 8) {
+                break;
+            }
+            node = AddressNode.bit(bytes, i) == 0 ? node.zero : node.one;
+            if (node == null) {
+                break;
+            }
+        }
+        return Optional.ofNullable(ban);
+    }
+
+    /**
+     * Gets whether the given profile is banned.
+     *
+     * @param profile The profile
+     * @return Whether the profile is banned
+     */
+    public boolean isBanned(GameProfile profile) {
+        return getBanFor(profile).isPresent();
+    }
+
+    /**
+     * Gets whether the given address is banned.
+     *
+     * @param address The address
+     * @return Whether the address is banned
+     */
+    public boolean isBanned(InetAddress address) {
+        return getBanFor(address).isPresent();
+    }
+
+    /**
+     * Gets all profile bans in the index, which may include expired bans
+     * which were not yet removed by {@link #expire(Instant)}.
+     *
+     * @return The profile bans
+     */
+    public Collection<Ban.Profile> getProfileBans() {
+        return Collections.unmodifiableCollection(this.profileBans.values());
+    }
+
+    /**
+     * Gets all IP bans in the index, which may include expired bans which
+     * were not yet removed by {@link #expire(Instant)}.
+     *
+     * @return The IP bans
+     */
+    public Collection<Ban.Ip> getIpBans() {
+        return Collections.unmodifiableSet(this.ipBans);
+    }
+
+    private boolean isExpired(Ban ban) {
+        final Optional<Instant> expiration = ban.getExpirationDate();
+        return expiration.isPresent() && expiration.get().toEpochMilli() <= System.currentTimeMillis();
+    }
+
+    private void schedule(Ban ban, Instant expiration) {
+        // Rounded up, such that bans are never removed before they expired
+        final long tick = Math.max(this.currentTick, -Math.floorDiv(-expiration.toEpochMilli(), this.tickMillis));
+        this.wheel.get((int) Math.floorMod(tick, WHEEL_SIZE)).add(new Expiry(tick, ban));
+    }
+
+    /**
+     * Removes all bans which expired at the given time from the index. This
+     * only visits the bans expiring since the last call, and should be
+     * called regularly, for example once every second.
+     *
+     * @param now The current time
+     * @return The removed bans
+     */
+    public synchronized List<Ban> expire(Instant now) {
+        checkNotNull(now, "now");
+        final long nowTick = Math.floorDiv(now.toEpochMilli(), this.tickMillis);
+        if (nowTick < this.currentTick) {
+            return ImmutableList.of();
+        }
+        final ImmutableList.Builder<Ban> expired = ImmutableList.builder();
+        // Every slot only needs to be visited once, even if more time passed
+        final long end = Math.min(nowTick, this.currentTick + WHEEL_SIZE - 1);
+        for (long tick = this.currentTick; tick <= end; tick++) {
+            final Iterator<Expiry> it = this.wheel.get((int) Math.floorMod(tick, WHEEL_SIZE)).iterator();
+            while (it.hasNext()) {
+                final Expiry expiry = it.next();
+                if (expiry.tick <= nowTick) {
+                    it.remove();
+                    // The ban may have been removed or replaced in the meantime
+                    if (remove(expiry.ban)) {
+                        expired.add(expiry.ban);
+                    }
+                }
+            }
+        }
+        this.currentTick = nowTick + 1;
+        return expired.build();
+    }
+
+    private static final class Expiry {
+
+        final long tick;
+        final Ban ban;
+
+        Expiry(long tick, Ban ban) {
+            this.tick = tick;
+            this.ban = ban;
+        }
+    }
+
+    /**
+     * An immutable node of the trie of address bits, modifications copy the
+     * nodes along the path of the changed address.
+     */
+    private static final class AddressNode {
+
+        static final AddressNode EMPTY = new AddressNode(null, null, null);
+
+        static int bit(byte[] address, int index) {
+            return (address[index >> 3] >> (7 - (index & 7))) & 1;
+        }
+
+        @Nullable final AddressNode zero;
+        @Nullable final AddressNode one;
+        @Nullable final Ban.Ip ban;
+
+        AddressNode(@Nullable AddressNode zero, @Nullable AddressNode one, @Nullable Ban.Ip ban) {
+            this.zero = zero;
+            this.one = one;
+            this.ban = ban;
+        }
+
+        @Nullable
+        Ban.Ip get(byte[] address, int prefixLength) {
+            AddressNode node = this;
+            for (int i = 0; i < prefixLength && node != null; i++) {
+                node = bit(address, i) == 0 ? node.zero : node.one;
+            }
+            return node == null ? null : node.ban;
+        }
+
+        /**
+         * Returns a copy of this node with the ban of the given range
+         * replaced, or null if the copy would be empty.
+         */
+        @Nullable
+        AddressNode with(byte[] address, int index, int prefixLength, @Nullable Ban.Ip ban) {
+            if (index == prefixLength) {
+                return of(this.zero, this.one, ban);
+            }
+            final boolean zero = bit(address, index) == 0;
+            final AddressNode child = zero ? this.zero : this.one;
+            if (child == null && ban == null) {
+                return this;
+            }
+            final AddressNode newChild = (child == null ? EMPTY : child).with(address, index + 1, prefixLength, ban);
+            return zero ? of(newChild, this.one, this.ban) : of(this.zero, newChild, this.ban);
+        }
+
+        @Nullable
+        private static AddressNode of(@Nullable AddressNode zero, @Nullable AddressNode one, @Nullable Ban.Ip ban) {
+            return zero == null && one == null && ban == null ? null : new AddressNode(zero, one, ban);
+        }
+    }
+
+}
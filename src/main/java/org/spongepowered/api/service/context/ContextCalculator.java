@@ -24,6 +24,7 @@
  */
 package org.spongepowered.api.service.context;
 
+import java.util.Collections;
 import java.util.Set;
 
 /**
@@ -56,4 +57,18 @@
      *         applicable to the given {@link Contextual}. Otherwise false.
      */
     boolean matches(Context context, T subject);
+
+    /**
+     * Gets the triggers after which the contexts accumulated by this
+     * calculator may have changed. A {@link ContextPipeline} caches the
+     * contexts of each {@link Contextual} until one of them fires.
+     *
+     * <p>By default, no triggers are declared and the contexts are
+     * calculated every time they are requested.</p>
+     *
+     * @return The invalidation triggers
+     */
+    default Set<InvalidationTrigger> getInvalidationTriggers() {
+        return Collections.emptySet();
+    }
 }
@@ -0,0 +1,361 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.service.context;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableSet;
+import org.spongepowered.api.event.Event;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Predicate;
+
+import javax.annotation.Nullable;
+
+/**
+ * Calculates the active contexts of {@link Contextual}s using the registered
+ * {@link ContextCalculator}s, caching the contexts of every calculator which
+ * declares {@link ContextCalculator#getInvalidationTriggers() invalidation
+ * triggers} until one of them fires. If all calculators can be cached, the
+ * combined contexts are cached as well, such that repeated lookups return
+ * without consulting any calculator.
+ *
+ * <p>The pipeline does not listen for events itself, the owner is expected
+ * to call {@link #onTick()}, {@link #onWorldChange(Contextual)} and
+ * {@link #onEvent(Event)} for the {@link #getTriggerEvents() events} the
+ * calculators declared.</p>
+ *
+ * <p>This class is thread-safe. Contextuals are weakly referenced and
+ * compared by identity.</p>
+ *
+ * @param <T> The type of contextual
+ */
+public final class ContextPipeline<T extends Contextual> implements ContextualService<T> {
+
+    private final List<Registration> registrations = new CopyOnWriteArrayList<>();
+    private final Cache<T, Entry> results = CacheBuilder.newBuilder().weakKeys().build();
+    private volatile boolean cacheResults = true;
+
+    @Override
+    public void registerContextCalculator(ContextCalculator<T> calculator) {
+        checkNotNull(calculator, "calculator");
+        final Registration registration = new Registration(calculator);
+        this.registrations.add(registration);
+        if (!registration.cached) {
+            this.cacheResults = false;
+        }
+        invalidateAll();
+    }
+
+    /**
+     * Gets the active contexts of the given contextual.
+     *
+     * @param contextual The contextual
+     * @return The active contexts
+     */
+    public ContextSet getActiveContexts(T contextual) {
+        checkNotNull(contextual, "contextual");
+        final boolean cacheResults = this.cacheResults;
+        final Entry pending = new Entry(null);
+        if (cacheResults) {
+            final Entry entry = this.results.getIfPresent(contextual);
+            if (entry != null && entry.contexts != null) {
+                return entry.contexts;
+            }
+            this.results.put(contextual, pending);
+        }
+        final Set<Context> accumulator = new HashSet<>();
+        for (Registration registration : this.registrations) {
+            registration.accumulate(contextual, accumulator);
+        }
+        final ContextSet result = ContextSet.of(accumulator);
+        if (cacheResults) {
+            // Fails if the contexts were invalidated in the meantime
+            this.results.asMap().replace(contextual, pending, new Entry(result));
+        }
+        return result;
+    }
+
+    /**
+     * Checks if any registered calculator considers the given context
+     * applicable to the contextual.
+     *
+     * @param context The context
+     * @param contextual The contextual
+     * @return Whether the context is applicable
+     * @see ContextCalculator#matches(Context, Contextual)
+     */
+    public boolean matches(Context context, T contextual) {
+        for (Registration registration : this.registrations) {
+            if (registration.calculator.matches(context, contextual)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Gets the event types which calculators declared as
+     * {@link InvalidationTrigger#event(Class) triggers}.
+     *
+     * @return The event types to pass to {@link #onEvent(Event)}
+     */
+    public Set<Class<? extends Event>> getTriggerEvents() {
+        final ImmutableSet.Builder<Class<? extends Event>> builder = ImmutableSet.builder();
+        for (Registration registration : this.registrations) {
+            builder.addAll(registration.eventTypes);
+        }
+        return builder.build();
+    }
+
+    /**
+     * Invalidates the contexts of calculators triggered by
+     * {@link InvalidationTrigger#TICK}.
+     */
+    public void onTick() {
+        invalidateWhere(registration -> registration.tick);
+    }
+
+    /**
+     * Invalidates the contexts of the given contextual of calculators
+     * triggered by {@link InvalidationTrigger#WORLD_CHANGE}.
+     *
+     * @param contextual The contextual which changed worlds
+     */
+    public void onWorldChange(T contextual) {
+        checkNotNull(contextual, "contextual");
+        for (Registration registration : this.registrations) {
+            if (registration.worldChange) {
+                registration.cache.invalidate(contextual);
+            }
+        }
+        this.results.invalidate(contextual);
+    }
+
+    /**
+     * Invalidates the contexts of calculators triggered by the type of
+     * the given event.
+     *
+     * @param event The event
+     */
+    public void onEvent(Event event) {
+        checkNotNull(event, "event");
+        invalidateWhere(registration -> registration.isTriggeredBy(event));
+    }
+
+    /**
+     * Invalidates the cached contexts of the given contextual.
+     *
+     * @param contextual The contextual
+     */
+    public void invalidate(T contextual) {
+        checkNotNull(contextual, "contextual");
+        for (Registration registration : this.registrations) {
+            registration.cache.invalidate(contextual);
+        }
+        this.results.invalidate(contextual);
+    }
+
+    /**
+     * Invalidates all cached contexts.
+     */
+    public void invalidateAll() {
+        invalidateWhere(registration -> true);
+    }
+
+    private void invalidateWhere(Predicate<Registration> filter) {
+        boolean invalidated = false;
+        for (Registration registration : this.registrations) {
+            if (filter.test(registration)) {
+                registration.cache.invalidateAll();
+                invalidated = true;
+            }
+        }
+        if (invalidated) {
+            this.results.invalidateAll();
+        }
+    }
+
+    /**
+     * Gets the timings of all registered calculators, in the order they
+     * were registered.
+     *
+     * @return The timings
+     */
+    public List<Timings> getTimings() {
+        final ImmutableList.Builder<Timings> builder = ImmutableList.builder();
+        for (Registration registration : this.registrations) {
+            builder.add(registration.timings);
+        }
+        return builder.build();
+    }
+
+    /**
+     * The timings of a single {@link ContextCalculator}.
+     */
+    public static final class Timings {
+
+        private final ContextCalculator<?> calculator;
+        private final LongAdder calculations = new LongAdder();
+        private final LongAdder cacheHits = new LongAdder();
+        private final LongAdder nanos = new LongAdder();
+
+        Timings(ContextCalculator<?> calculator) {
+            this.calculator = calculator;
+        }
+
+        /**
+         * Gets the calculator these timings belong to.
+         *
+         * @return The calculator
+         */
+        public ContextCalculator<?> getCalculator() {
+            return this.calculator;
+        }
+
+        /**
+         * Gets the number of times the calculator accumulated contexts.
+         *
+         * @return The number of calculations
+         */
+        public long getCalculationCount() {
+            return this.calculations.sum();
+        }
+
+        /**
+         * Gets the number of times the contexts of the calculator were
+         * served from the cache.
+         *
+         * @return The number of cache hits
+         */
+        public long getCacheHitCount() {
+            return this.cacheHits.sum();
+        }
+
+        /**
+         * Gets the total time spent in the calculator.
+         *
+         * @param unit The unit of the returned time
+         * @return The total time
+         */
+        public long getTotalTime(TimeUnit unit) {
+            return unit.convert(this.nanos.sum(), TimeUnit.NANOSECONDS);
+        }
+
+        /**
+         * Resets the timings to zero.
+         */
+        public void reset() {
+            this.calculations.reset();
+            this.cacheHits.reset();
+            this.nanos.reset();
+        }
+
+    }
+
+    /**
+     * A cache entry, which holds no contexts while they are being
+     * calculated. An invalidation removes the entry of a calculation in
+     * progress, which prevents the calculation from caching its possibly
+     * outdated result, as it only replaces its own entry. Entries are
+     * compared by identity.
+     */
+    private static final class Entry {
+
+        @Nullable final ContextSet contexts;
+
+        Entry(@Nullable ContextSet contexts) {
+            this.contexts = contexts;
+        }
+
+    }
+
+    private final class Registration {
+
+        final ContextCalculator<T> calculator;
+        final Timings timings;
+        final Cache<T, Entry> cache = CacheBuilder.newBuilder().weakKeys().build();
+        final boolean cached;
+        final boolean tick;
+        final boolean worldChange;
+        final Set<Class<? extends Event>> eventTypes;
+
+        Registration(ContextCalculator<T> calculator) {
+            this.calculator = calculator;
+            this.timings = new Timings(calculator);
+            final Set<InvalidationTrigger> triggers = ImmutableSet.copyOf(calculator.getInvalidationTriggers());
+            this.cached = !triggers.isEmpty();
+            this.tick = triggers.contains(InvalidationTrigger.TICK);
+            this.worldChange = triggers.contains(InvalidationTrigger.WORLD_CHANGE);
+            final ImmutableSet.Builder<Class<? extends Event>> eventTypes = ImmutableSet.builder();
+            for (InvalidationTrigger trigger : triggers) {
+                trigger.getEventType().ifPresent(eventTypes::add);
+            }
+            this.eventTypes = eventTypes.build();
+        }
+
+        boolean isTriggeredBy(Event event) {
+            for (Class<? extends Event> eventType : this.eventTypes) {
+                if (eventType.isInstance(event)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        void accumulate(T contextual, Set<Context> accumulator) {
+            final Entry pending = new Entry(null);
+            if (this.cached) {
+                final Entry entry = this.cache.getIfPresent(contextual);
+                if (entry != null && entry.contexts != null) {
+                    this.timings.cacheHits.increment();
+                    accumulator.addAll(entry.contexts);
+                    return;
+                }
+                this.cache.put(contextual, pending);
+            }
+            final Set<Context> contexts = this.cached ? new HashSet<>() : accumulator;
+            final long start = System.nanoTime();
+            this.calculator.accumulateContexts(contextual, contexts);
+            this.timings.nanos.add(System.nanoTime() - start);
+            this.timings.calculations.increment();
+            if (this.cached) {
+                final ContextSet set = ContextSet.of(contexts);
+                this.cache.asMap().replace(contextual, pending, new Entry(set));
+                accumulator.addAll(set);
+            }
+        }
+
+    }
+
+}
@@ -0,0 +1,117 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.service.context;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.Interner;
+import com.google.common.collect.Interners;
+
+import java.util.AbstractSet;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.Set;
+
+/**
+ * An immutable, interned set of {@link Context}s. As the hash code is
+ * computed once and equal sets are usually the same instance, context sets
+ * are cheap to use as cache keys, for example in the permission lookups of
+ * a subject.
+ *
+ * @see ContextPipeline
+ */
+public final class ContextSet extends AbstractSet<Context> {
+
+    private static final Interner<ContextSet> INTERNER = Interners.newWeakInterner();
+    private static final ContextSet EMPTY = INTERNER.intern(new ContextSet(ImmutableSet.of()));
+
+    /**
+     * Gets the empty context set.
+     *
+     * @return The empty context set
+     */
+    public static ContextSet empty() {
+        return EMPTY;
+    }
+
+    /**
+     * Gets the interned context set containing the given contexts.
+     *
+     * @param contexts The contexts
+     * @return The context set
+     */
+    public static ContextSet of(Collection<Context> contexts) {
+        checkNotNull(contexts, "contexts");
+        if (contexts instanceof ContextSet) {
+            return (ContextSet) contexts;
+        }
+        if (contexts.isEmpty()) {
+            return EMPTY;
+        }
+        return INTERNER.intern(new ContextSet(ImmutableSet.copyOf(contexts)));
+    }
+
+    private final ImmutableSet<Context> contexts;
+    private final int hashCode;
+
+    private ContextSet(ImmutableSet<Context> contexts) {
+        this.contexts = contexts;
+        this.hashCode = contexts.hashCode();
+    }
+
+    @Override
+    public Iterator<Context> iterator() {
+        return this.contexts.iterator();
+    }
+
+    @Override
+    public int size() {
+        return this.contexts.size();
+    }
+
+    @Override
+    public boolean contains(Object o) {
+        return this.contexts.contains(o);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o instanceof ContextSet) {
+            // Equal context sets are interned, unless they are being interned
+            return this.hashCode == o.hashCode() && this.contexts.equals(((ContextSet) o).contexts);
+        }
+        return o instanceof Set<?> && this.contexts.equals(o);
+    }
+
+    @Override
+    public int hashCode() {
+        return this.hashCode;
+    }
+
+}
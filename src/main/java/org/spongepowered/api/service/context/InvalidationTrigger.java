@@ -0,0 +1,110 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.service.context;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import com.google.common.base.MoreObjects;
+import org.spongepowered.api.event.Event;
+
+import java.util.Objects;
+import java.util.Optional;
+
+import javax.annotation.Nullable;
+
+/**
+ * Declares when the contexts calculated by a {@link ContextCalculator} may
+ * have changed, which allows a {@link ContextPipeline} to cache them in the
+ * meantime.
+ *
+ * @see ContextCalculator#getInvalidationTriggers()
+ */
+public final class InvalidationTrigger {
+
+    /**
+     * The contexts may change every server tick.
+     */
+    public static final InvalidationTrigger TICK = new InvalidationTrigger("tick", null);
+
+    /**
+     * The contexts of a {@link Contextual} may change when it changes worlds.
+     */
+    public static final InvalidationTrigger WORLD_CHANGE = new InvalidationTrigger("world_change", null);
+
+    /**
+     * Gets the trigger for the contexts changing whenever an event of the
+     * given type, or one of its subtypes, is posted.
+     *
+     * @param eventType The event type
+     * @return The trigger
+     */
+    public static InvalidationTrigger event(Class<? extends Event> eventType) {
+        return new InvalidationTrigger("event", checkNotNull(eventType, "eventType"));
+    }
+
+    private final String id;
+    @Nullable private final Class<? extends Event> eventType;
+
+    private InvalidationTrigger(String id, @Nullable Class<? extends Event> eventType) {
+        this.id = id;
+        this.eventType = eventType;
+    }
+
+    /**
+     * Gets the event type of this trigger, if it is triggered by events.
+     *
+     * @return The event type
+     */
+    public Optional<Class<? extends Event>> getEventType() {
+        return Optional.ofNullable(this.eventType);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof InvalidationTrigger)) {
+            return false;
+        }
+        final InvalidationTrigger other = (InvalidationTrigger) o;
+        return this.id.equals(other.id) && Objects.equals(this.eventType, other.eventType);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(this.id, this.eventType);
+    }
+
+    @Override
+    public String toString() {
+        return MoreObjects.toStringHelper(this)
+                .add("id", this.id)
+                .add("eventType", this.eventType)
+                .omitNullValues()
+                .toString();
+    }
+
+}
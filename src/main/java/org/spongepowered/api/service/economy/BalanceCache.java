@@ -0,0 +1,213 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.service.economy;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.Maps;
+import org.spongepowered.api.event.Listener;
+import org.spongepowered.api.event.Order;
+import org.spongepowered.api.event.economy.EconomyTransactionEvent;
+import org.spongepowered.api.service.context.Context;
+import org.spongepowered.api.service.context.ContextSet;
+import org.spongepowered.api.service.economy.account.Account;
+import org.spongepowered.api.service.economy.account.UniqueAccount;
+import org.spongepowered.api.service.economy.transaction.TransactionResult;
+import org.spongepowered.api.service.economy.transaction.TransferResult;
+
+import java.math.BigDecimal;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * A read-through cache of account balances, for code which frequently reads
+ * the balances of many accounts, such as scoreboards and leaderboards.
+ *
+ * <p>The cached balances of an account are invalidated by every
+ * {@link EconomyTransactionEvent} involving it, once the cache is registered
+ * as a listener. Balances changed without such an event, for example by
+ * another server sharing the database, must be invalidated through
+ * {@link #invalidate(Account)}.</p>
+ *
+ * <p>The cache holds the balances of a bounded number of accounts.
+ * Balances of an account which were looked up while it was invalidated are
+ * not cached, as they may already be outdated. Invalidating an account does
+ * not affect the lookups of other accounts.</p>
+ *
+ * <p>This class is thread-safe.</p>
+ */
+public final class BalanceCache {
+
+    // The balances of each account, replaced by a new map once the account
+    // is invalidated, such that lookups still in flight store their outdated
+    // balances in a map which is no longer reachable
+    private final Cache<Object, ConcurrentMap<Map.Entry<Currency, ContextSet>, BigDecimal>> balances;
+
+    /**
+     * Creates a new balance cache.
+     *
+     * @param maximumAccounts The maximum number of accounts to cache the
+     *     balances of
+     */
+    public BalanceCache(long maximumAccounts) {
+        checkArgument(maximumAccounts > 0, "maximumAccounts must be positive");
+        this.balances = CacheBuilder.newBuilder().maximumSize(maximumAccounts).build();
+    }
+
+    /**
+     * Gets the balance of the given {@link Account}.
+     *
+     * @param account The account
+     * @param currency The currency
+     * @param contexts The contexts
+     * @return The balance
+     * @see Account#getBalance(Currency, Set)
+     */
+    public BigDecimal getBalance(Account account, Currency currency, Set<Context> contexts) {
+        checkNotNull(account, "account");
+        final Map.Entry<Currency, ContextSet> key = key(currency, contexts);
+        final Object accountKey = accountKey(account);
+        final ConcurrentMap<Map.Entry<Currency, ContextSet>, BigDecimal> balances = balances(accountKey);
+        final BigDecimal cached = balances.get(key);
+        if (cached != null) {
+            return cached;
+        }
+        final BigDecimal balance = account.getBalance(currency, key.getValue());
+        balances.put(key, balance);
+        return balance;
+    }
+
+    /**
+     * Gets the balance of the given {@link Account} in its
+     * {@link Account#getActiveContexts() active contexts}.
+     *
+     * @param account The account
+     * @param currency The currency
+     * @return The balance
+     * @see Account#getBalance(Currency)
+     */
+    public BigDecimal getBalance(Account account, Currency currency) {
+        return getBalance(account, currency, account.getActiveContexts());
+    }
+
+    /**
+     * Gets the balances of the {@link UniqueAccount}s with the given
+     * {@link UUID}s. Balances which are not cached are looked up with a
+     * single call to {@link EconomyService#getBalances(Collection, Currency,
+     * Set)}.
+     *
+     * @param service The economy service to look up balances with
+     * @param uuids The {@link UUID}s of the accounts
+     * @param currency The currency
+     * @param contexts The contexts
+     * @return The balances of the existing accounts
+     */
+    public Map<UUID, BigDecimal> getBalances(EconomyService service, Collection<UUID> uuids, Currency currency, Set<Context> contexts) {
+        checkNotNull(service, "service");
+        final Map.Entry<Currency, ContextSet> key = key(currency, contexts);
+        final Map<UUID, BigDecimal> result = new HashMap<>();
+        final Map<UUID, ConcurrentMap<Map.Entry<Currency, ContextSet>, BigDecimal>> missing = new LinkedHashMap<>();
+        for (UUID uuid : uuids) {
+            final ConcurrentMap<Map.Entry<Currency, ContextSet>, BigDecimal> balances = balances(uuid);
+            final BigDecimal cached = balances.get(key);
+            if (cached != null) {
+                result.put(uuid, cached);
+            } else {
+                missing.put(uuid, balances);
+            }
+        }
+        if (!missing.isEmpty()) {
+            final Map<UUID, BigDecimal> loaded = service.getBalances(ImmutableList.copyOf(missing.keySet()), currency, key.getValue());
+            missing.forEach((uuid, balances) -> {
+                final BigDecimal balance = loaded.get(uuid);
+                if (balance != null) {
+                    balances.put(key, balance);
+                } else if (balances.isEmpty()) {
+                    // Don't keep entries of accounts which don't exist
+                    this.balances.asMap().remove(uuid, balances);
+                }
+            });
+            result.putAll(loaded);
+        }
+        return result;
+    }
+
+    /**
+     * Invalidates the cached balances of the given {@link Account}.
+     *
+     * @param account The account
+     */
+    public void invalidate(Account account) {
+        checkNotNull(account, "account");
+        this.balances.invalidate(accountKey(account));
+    }
+
+    /**
+     * Invalidates all cached balances.
+     */
+    public void invalidateAll() {
+        this.balances.invalidateAll();
+    }
+
+    /**
+     * Invalidates the balances of the accounts involved in a transaction.
+     *
+     * @param event The event
+     */
+    @Listener(order = Order.POST)
+    public void onTransaction(EconomyTransactionEvent event) {
+        final TransactionResult result = event.getTransactionResult();
+        invalidate(result.getAccount());
+        if (result instanceof TransferResult) {
+            invalidate(((TransferResult) result).getAccountTo());
+        }
+    }
+
+    private static Map.Entry<Currency, ContextSet> key(Currency currency, Set<Context> contexts) {
+        checkNotNull(currency, "currency");
+        checkNotNull(contexts, "contexts");
+        return Maps.immutableEntry(currency, ContextSet.of(contexts));
+    }
+
+    private static Object accountKey(Account account) {
+        // Allows balances of unique accounts to be looked up by their unique id
+        return account instanceof UniqueAccount ? ((UniqueAccount) account).getUniqueId() : account.getIdentifier();
+    }
+
+    private ConcurrentMap<Map.Entry<Currency, ContextSet>, BigDecimal> balances(Object accountKey) {
+        return this.balances.asMap().computeIfAbsent(accountKey, k -> new ConcurrentHashMap<>());
+    }
+
+}
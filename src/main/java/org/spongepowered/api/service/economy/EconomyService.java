@@ -24,14 +24,23 @@
  */
 package org.spongepowered.api.service.economy;
 
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import org.spongepowered.api.service.context.Context;
 import org.spongepowered.api.service.context.ContextualService;
 import org.spongepowered.api.service.economy.account.Account;
 import org.spongepowered.api.service.economy.account.UniqueAccount;
 import org.spongepowered.api.service.economy.account.VirtualAccount;
+import org.spongepowered.api.service.economy.transaction.TransactionBatch;
 
+import java.math.BigDecimal;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * Represents a service for managing a server economy.
@@ -115,4 +124,94 @@ public interface EconomyService extends ContextualService<Account> {
      * @return The {@link Account}, if available.
      */
     Optional<Account> getOrCreateAccount(String identifier);
+
+    /**
+     * Gets the balances of the {@link UniqueAccount}s with the given
+     * {@link UUID}s in the given {@link Currency}, using the
+     * {@link Account#getActiveContexts() active contexts} of each account.
+     * Accounts which do not exist are not created, and omitted from the
+     * returned map.
+     *
+     * <p>By default, the balance of every account is looked up on its own,
+     * providers backed by a database should override this to look up all
+     * balances in a single query.</p>
+     *
+     * @param uuids The {@link UUID}s of the accounts
+     * @param currency The currency
+     * @return The balances of the existing accounts
+     */
+    default Map<UUID, BigDecimal> getBalances(Collection<UUID> uuids, Currency currency) {
+        checkNotNull(currency, "currency");
+        final Map<UUID, BigDecimal> balances = new HashMap<>();
+        for (UUID uuid : uuids) {
+            if (hasAccount(uuid)) {
+                getOrCreateAccount(uuid).ifPresent(account -> balances.put(uuid, account.getBalance(currency)));
+            }
+        }
+        return balances;
+    }
+
+    /**
+     * Gets the balances of the {@link UniqueAccount}s with the given
+     * {@link UUID}s in the given {@link Currency} and {@link Context}s.
+     * Accounts which do not exist are not created, and omitted from the
+     * returned map.
+     *
+     * <p>By default, the balance of every account is looked up on its own,
+     * providers backed by a database should override this to look up all
+     * balances in a single query.</p>
+     *
+     * @param uuids The {@link UUID}s of the accounts
+     * @param currency The currency
+     * @param contexts The contexts
+     * @return The balances of the existing accounts
+     */
+    default Map<UUID, BigDecimal> getBalances(Collection<UUID> uuids, Currency currency, Set<Context> contexts) {
+        checkNotNull(currency, "currency");
+        checkNotNull(contexts, "contexts");
+        final Map<UUID, BigDecimal> balances = new HashMap<>();
+        for (UUID uuid : uuids) {
+            if (hasAccount(uuid)) {
+                getOrCreateAccount(uuid).ifPresent(account -> balances.put(uuid, account.getBalance(currency, contexts)));
+            }
+        }
+        return balances;
+    }
+
+    /**
+     * Gets the {@link UniqueAccount}s with the highest balances in the given
+     * {@link Currency} and {@link Context}s, for leaderboards. The returned
+     * map iterates from the highest balance to the lowest.
+     *
+     * <p>Providers which do not keep an index of balances may not support
+     * this query, in which case {@link Optional#empty()} is returned, which
+     * is the default.</p>
+     *
+     * @param currency The currency
+     * @param contexts The contexts
+     * @param limit The maximum number of accounts to return
+     * @return The balances of the accounts, if supported
+     */
+    default Optional<Map<UUID, BigDecimal>> getTopBalances(Currency currency, Set<Context> contexts, int limit) {
+        return Optional.empty();
+    }
+
+    /**
+     * Executes the given {@link TransactionBatch}.
+     *
+     * <p>The returned future may be completed asynchronously, for example
+     * by providers writing to a database. By default, the entries are
+     * applied one after another through
+     * {@link TransactionBatch#executeSequentially()}, which reverts the
+     * applied entries if one fails but is not atomic. Providers should
+     * override this to apply the whole batch atomically in a single
+     * operation, such that either all of its entries are applied, or none
+     * of them are.</p>
+     *
+     * @param batch The batch to execute
+     * @return The result of the batch
+     */
+    default CompletableFuture<TransactionBatch.Result> execute(TransactionBatch batch) {
+        return batch.executeSequentially();
+    }
 }
@@ -0,0 +1,531 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.service.economy.transaction;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+import static com.google.common.base.Preconditions.checkState;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableSet;
+import org.spongepowered.api.event.cause.Cause;
+import org.spongepowered.api.service.context.Context;
+import org.spongepowered.api.service.economy.Currency;
+import org.spongepowered.api.service.economy.EconomyService;
+import org.spongepowered.api.service.economy.account.Account;
+import org.spongepowered.api.util.ResettableBuilder;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+
+import javax.annotation.Nullable;
+
+/**
+ * A batch of deposits, withdrawals and transfers, which may involve any
+ * number of {@link Account}s and {@link Currency}s, that is executed by
+ * {@link EconomyService#execute(TransactionBatch)}.
+ *
+ * <p>Providers able to apply a batch natively, for example in a single
+ * database transaction, apply either all of its entries or none of them,
+ * and should do so in a single round-trip rather than one per entry. The
+ * {@link #executeSequentially() sequential fallback} is not atomic.</p>
+ */
+public final class TransactionBatch {
+
+    /**
+     * Creates a new {@link Builder} to build a {@link TransactionBatch}.
+     *
+     * @return The new builder
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    private final Cause cause;
+    private final List<Entry> entries;
+
+    TransactionBatch(Builder builder) {
+        this.cause = builder.cause;
+        this.entries = ImmutableList.copyOf(builder.entries);
+    }
+
+    /**
+     * Gets the {@link Cause} of all transactions of this batch.
+     *
+     * @return The cause
+     */
+    public Cause getCause() {
+        return this.cause;
+    }
+
+    /**
+     * Gets the entries of this batch, in the order they are applied.
+     *
+     * @return The entries
+     */
+    public List<Entry> getEntries() {
+        return this.entries;
+    }
+
+    /**
+     * Executes this batch by applying every entry to its {@link Account} one
+     * after another. If an entry is not successful, the entries which were
+     * already applied are reverted by applying their inverse transactions,
+     * in the reverse order.
+     *
+     * <p>This is the fallback used by {@link EconomyService} implementations
+     * which cannot apply batches natively, and it is not atomic. Other
+     * transactions may observe the intermediate balances, and may also
+     * prevent an entry from being reverted, for example by spending the
+     * currency that was transferred. The entries which remain applied are
+     * reported by {@link Result#getRemainingEntries()}.</p>
+     *
+     * <p>If an entry or an inverse transaction throws an exception, the
+     * applied entries are reverted as far as possible and the returned future
+     * completes exceptionally with the first exception. Every inverse
+     * transaction that failed is added to it as a suppressed exception.</p>
+     *
+     * @return The result of the batch
+     */
+    public CompletableFuture<Result> executeSequentially() {
+        final List<TransactionResult> results = new ArrayList<>(this.entries.size());
+        int applied = 0;
+        try {
+            for (Entry entry : this.entries) {
+                final TransactionResult result = entry.apply(this.cause);
+                results.add(result);
+                if (result.getResult() != ResultType.SUCCESS) {
+                    break;
+                }
+                applied++;
+            }
+        } catch (RuntimeException e) {
+            final List<RuntimeException> errors = new ArrayList<>();
+            final List<TransactionResult> reverts = revert(applied, errors);
+            for (int i = 0; i < reverts.size(); i++) {
+                if (reverts.get(i).getResult() != ResultType.SUCCESS) {
+                    e.addSuppressed(new IllegalStateException("Unable to revert entry " + (applied - 1 - i) + ": "
+                            + reverts.get(i).getResult()));
+                }
+            }
+            errors.forEach(e::addSuppressed);
+            return failed(e);
+        }
+        if (applied == this.entries.size()) {
+            return CompletableFuture.completedFuture(new Result(this, results));
+        }
+        final List<RuntimeException> errors = new ArrayList<>();
+        final List<TransactionResult> reverts = revert(applied, errors);
+        if (!errors.isEmpty()) {
+            final RuntimeException e = errors.get(0);
+            errors.subList(1, errors.size()).forEach(e::addSuppressed);
+            return failed(e);
+        }
+        return CompletableFuture.completedFuture(new Result(this, results, reverts));
+    }
+
+    /**
+     * Reverts the first entries of this batch, from the last one to the
+     * first one. The exceptions thrown by inverse transactions are collected
+     * rather than stopping the others from being applied.
+     */
+    private List<TransactionResult> revert(int applied, List<RuntimeException> errors) {
+        final List<TransactionResult> reverts = new ArrayList<>(applied);
+        for (int i = applied - 1; i >= 0; i--) {
+            try {
+                reverts.add(this.entries.get(i).revert(this.cause));
+            } catch (RuntimeException e) {
+                errors.add(e);
+            }
+        }
+        return reverts;
+    }
+
+    private static <T> CompletableFuture<T> failed(Throwable t) {
+        final CompletableFuture<T> future = new CompletableFuture<>();
+        future.completeExceptionally(t);
+        return future;
+    }
+
+    /**
+     * A single transaction of a {@link TransactionBatch}.
+     */
+    public static final class Entry {
+
+        private final TransactionType type;
+        private final Account account;
+        @Nullable private final Account to;
+        private final Currency currency;
+        private final BigDecimal amount;
+        private final Set<Context> contexts;
+
+        Entry(TransactionType type, Account account, @Nullable Account to, Currency currency, BigDecimal amount,
+                Set<Context> contexts) {
+            this.type = checkNotNull(type, "type");
+            this.account = checkNotNull(account, "account");
+            this.to = to;
+            this.currency = checkNotNull(currency, "currency");
+            this.amount = checkNotNull(amount, "amount");
+            this.contexts = ImmutableSet.copyOf(checkNotNull(contexts, "contexts"));
+            checkArgument(amount.signum() >= 0, "amount must not be negative");
+        }
+
+        /**
+         * Gets the {@link TransactionType} of this entry, which is one of
+         * {@link TransactionTypes#DEPOSIT}, {@link TransactionTypes#WITHDRAW}
+         * or {@link TransactionTypes#TRANSFER}.
+         *
+         * @return The transaction type
+         */
+        public TransactionType getType() {
+            return this.type;
+        }
+
+        /**
+         * Gets the {@link Account} of this entry, which is the account the
+         * currency is transferred from for transfers.
+         *
+         * @return The account
+         */
+        public Account getAccount() {
+            return this.account;
+        }
+
+        /**
+         * Gets the {@link Account} the currency is transferred to, if this
+         * entry is a transfer.
+         *
+         * @return The account transferred to
+         */
+        public Optional<Account> getAccountTo() {
+            return Optional.ofNullable(this.to);
+        }
+
+        /**
+         * Gets the {@link Currency} of this entry.
+         *
+         * @return The currency
+         */
+        public Currency getCurrency() {
+            return this.currency;
+        }
+
+        /**
+         * Gets the amount of this entry.
+         *
+         * @return The amount
+         */
+        public BigDecimal getAmount() {
+            return this.amount;
+        }
+
+        /**
+         * Gets the {@link Context}s the transaction is performed in.
+         *
+         * @return The contexts
+         */
+        public Set<Context> getContexts() {
+            return this.contexts;
+        }
+
+        TransactionResult apply(Cause cause) {
+            if (this.to != null) {
+                return this.account.transfer(this.to, this.currency, this.amount, cause, this.contexts);
+            } else if (this.type == TransactionTypes.DEPOSIT) {
+                return this.account.deposit(this.currency, this.amount, cause, this.contexts);
+            }
+            return this.account.withdraw(this.currency, this.amount, cause, this.contexts);
+        }
+
+        TransactionResult revert(Cause cause) {
+            if (this.to != null) {
+                return this.to.transfer(this.account, this.currency, this.amount, cause, this.contexts);
+            } else if (this.type == TransactionTypes.DEPOSIT) {
+                return this.account.withdraw(this.currency, this.amount, cause, this.contexts);
+            }
+            return this.account.deposit(this.currency, this.amount, cause, this.contexts);
+        }
+    }
+
+    /**
+     * The result of executing a {@link TransactionBatch}.
+     */
+    public static final class Result {
+
+        private final TransactionBatch batch;
+        private final List<TransactionResult> results;
+        private final List<TransactionResult> reverts;
+
+        /**
+         * Creates a new result of the given batch, which was applied
+         * atomically.
+         *
+         * <p>The results must be in the order of the
+         * {@link TransactionBatch#getEntries() entries} of the batch. If an
+         * entry was not successful, it must be the last of the results.</p>
+         *
+         * @param batch The batch
+         * @param results The results of the entries
+         */
+        public Result(TransactionBatch batch, List<TransactionResult> results) {
+            this(batch, results, ImmutableList.of());
+        }
+
+        /**
+         * Creates a new result of the given batch, whose applied entries were
+         * reverted by inverse transactions after an entry failed.
+         *
+         * <p>The results must be in the order of the
+         * {@link TransactionBatch#getEntries() entries} of the batch. If an
+         * entry was not successful, it must be the last of the results. The
+         * results of the inverse transactions must be in the order they
+         * were applied, starting at the entry before the one which
+         * failed.</p>
+         *
+         * @param batch The batch
+         * @param results The results of the entries
+         * @param reverts The results of the inverse transactions
+         */
+        public Result(TransactionBatch batch, List<TransactionResult> results, List<TransactionResult> reverts) {
+            this.batch = checkNotNull(batch, "batch");
+            this.results = ImmutableList.copyOf(results);
+            this.reverts = ImmutableList.copyOf(reverts);
+            checkArgument(this.results.size() <= batch.entries.size(), "more results than entries");
+            checkArgument(this.reverts.size() < Math.max(this.results.size(), 1), "more reverts than applied entries");
+        }
+
+        /**
+         * Gets the batch this is the result of.
+         *
+         * @return The batch
+         */
+        public TransactionBatch getBatch() {
+            return this.batch;
+        }
+
+        /**
+         * Gets the results of the entries of the batch, in the same order.
+         * If the batch was not successful, the results end with the entry
+         * which failed, and the entries after it were not attempted.
+         *
+         * <p>The {@link ResultType}s of the results have the same meaning
+         * as for single transactions, even if the entries were reverted
+         * since, see {@link #getRemainingEntries()}.</p>
+         *
+         * @return The results
+         */
+        public List<TransactionResult> getResults() {
+            return this.results;
+        }
+
+        /**
+         * Gets the results of the inverse transactions which reverted the
+         * applied entries of an unsuccessful batch, in the order they were
+         * applied. This is empty if the batch was successful or was applied
+         * atomically.
+         *
+         * @return The results of the inverse transactions
+         */
+        public List<TransactionResult> getRevertResults() {
+            return this.reverts;
+        }
+
+        /**
+         * Gets the entries of an unsuccessful batch which remain applied, as
+         * their inverse transactions were not successful.
+         *
+         * @return The entries which remain applied
+         */
+        public List<Entry> getRemainingEntries() {
+            final ImmutableList.Builder<Entry> builder = ImmutableList.builder();
+            for (int i = 0; i < this.reverts.size(); i++) {
+                if (this.reverts.get(i).getResult() != ResultType.SUCCESS) {
+                    builder.add(this.batch.entries.get(this.results.size() - 2 - i));
+                }
+            }
+            return builder.build();
+        }
+
+        /**
+         * Gets whether all entries of the batch were applied.
+         *
+         * @return Whether the batch was successful
+         */
+        public boolean isSuccessful() {
+            return this.results.size() == this.batch.entries.size() && !getFailure().isPresent();
+        }
+
+        /**
+         * Gets the result of the entry which caused the batch to fail, if
+         * it was not successful.
+         *
+         * @return The failed result
+         */
+        public Optional<TransactionResult> getFailure() {
+            if (this.results.isEmpty()) {
+                return Optional.empty();
+            }
+            final TransactionResult last = this.results.get(this.results.size() - 1);
+            return last.getResult() == ResultType.SUCCESS ? Optional.empty() : Optional.of(last);
+        }
+    }
+
+    /**
+     * A builder to create {@link TransactionBatch}es.
+     */
+    public static final class Builder implements ResettableBuilder<TransactionBatch, Builder> {
+
+        @Nullable Cause cause;
+        final List<Entry> entries = new ArrayList<>();
+
+        Builder() {
+        }
+
+        /**
+         * Sets the {@link Cause} of all transactions of the batch.
+         *
+         * @param cause The cause
+         * @return This builder, for chaining
+         */
+        public Builder cause(Cause cause) {
+            this.cause = checkNotNull(cause, "cause");
+            return this;
+        }
+
+        /**
+         * Adds a deposit to the given {@link Account}.
+         *
+         * @param account The account to deposit into
+         * @param currency The currency
+         * @param amount The amount to deposit
+         * @param contexts The contexts to perform the deposit in
+         * @return This builder, for chaining
+         */
+        public Builder deposit(Account account, Currency currency, BigDecimal amount, Set<Context> contexts) {
+            this.entries.add(new Entry(TransactionTypes.DEPOSIT, account, null, currency, amount, contexts));
+            return this;
+        }
+
+        /**
+         * Adds a deposit to the given {@link Account}, in the
+         * {@link Account#getActiveContexts() active contexts} of the account.
+         *
+         * @param account The account to deposit into
+         * @param currency The currency
+         * @param amount The amount to deposit
+         * @return This builder, for chaining
+         */
+        public Builder deposit(Account account, Currency currency, BigDecimal amount) {
+            return deposit(account, currency, amount, account.getActiveContexts());
+        }
+
+        /**
+         * Adds a withdrawal from the given {@link Account}.
+         *
+         * @param account The account to withdraw from
+         * @param currency The currency
+         * @param amount The amount to withdraw
+         * @param contexts The contexts to perform the withdrawal in
+         * @return This builder, for chaining
+         */
+        public Builder withdraw(Account account, Currency currency, BigDecimal amount, Set<Context> contexts) {
+            this.entries.add(new Entry(TransactionTypes.WITHDRAW, account, null, currency, amount, contexts));
+            return this;
+        }
+
+        /**
+         * Adds a withdrawal from the given {@link Account}, in the
+         * {@link Account#getActiveContexts() active contexts} of the account.
+         *
+         * @param account The account to withdraw from
+         * @param currency The currency
+         * @param amount The amount to withdraw
+         * @return This builder, for chaining
+         */
+        public Builder withdraw(Account account, Currency currency, BigDecimal amount) {
+            return withdraw(account, currency, amount, account.getActiveContexts());
+        }
+
+        /**
+         * Adds a transfer between the given {@link Account}s.
+         *
+         * @param from The account to transfer from
+         * @param to The account to transfer to
+         * @param currency The currency
+         * @param amount The amount to transfer
+         * @param contexts The contexts to perform the transfer in
+         * @return This builder, for chaining
+         */
+        public Builder transfer(Account from, Account to, Currency currency, BigDecimal amount, Set<Context> contexts) {
+            this.entries.add(new Entry(TransactionTypes.TRANSFER, from, checkNotNull(to, "to"), currency, amount, contexts));
+            return this;
+        }
+
+        /**
+         * Adds a transfer between the given {@link Account}s, in the
+         * {@link Account#getActiveContexts() active contexts} of the account
+         * transferred from.
+         *
+         * @param from The account to transfer from
+         * @param to The account to transfer to
+         * @param currency The currency
+         * @param amount The amount to transfer
+         * @return This builder, for chaining
+         */
+        public Builder transfer(Account from, Account to, Currency currency, BigDecimal amount) {
+            return transfer(from, to, currency, amount, from.getActiveContexts());
+        }
+
+        /**
+         * Builds the {@link TransactionBatch}.
+         *
+         * @return The transaction batch
+         */
+        public TransactionBatch build() {
+            checkState(this.cause != null, "cause must be set");
+            return new TransactionBatch(this);
+        }
+
+        @Override
+        public Builder from(TransactionBatch value) {
+            this.cause = value.cause;
+            this.entries.clear();
+            this.entries.addAll(value.entries);
+            return this;
+        }
+
+        @Override
+        public Builder reset() {
+            this.cause = null;
+            this.entries.clear();
+            return this;
+        }
+    }
+
+}
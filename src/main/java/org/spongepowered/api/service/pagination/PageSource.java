@@ -0,0 +1,116 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.service.pagination;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import com.google.common.collect.ImmutableList;
+import org.spongepowered.api.text.Text;
+
+import java.util.List;
+import java.util.OptionalInt;
+import java.util.function.IntFunction;
+
+/**
+ * A source of the entries of a {@link PaginationList} which are only loaded
+ * when the page containing them is sent, rather than all at once when the
+ * list is built. Only the entries of the requested page are rendered and
+ * measured.
+ *
+ * <p>If the number of entries is known, any page may be navigated to.
+ * Otherwise, only going to the next page is supported.</p>
+ *
+ * @see PaginationList.Builder#contents(PageSource)
+ */
+@FunctionalInterface
+public interface PageSource {
+
+    /**
+     * Creates a page source of the given entries.
+     *
+     * @param entries The entries
+     * @return The page source
+     */
+    static PageSource of(List<Text> entries) {
+        checkNotNull(entries, "entries");
+        return of(entries.size(), entries::get);
+    }
+
+    /**
+     * Creates a page source of the given number of entries, which are
+     * created on demand by the given function from their index.
+     *
+     * @param size The number of entries
+     * @param entry The function creating the entry of an index
+     * @return The page source
+     */
+    static PageSource of(int size, IntFunction<Text> entry) {
+        checkArgument(size >= 0, "size must not be negative");
+        checkNotNull(entry, "entry");
+        return new PageSource() {
+            @Override
+            public List<Text> getEntries(int offset, int limit) {
+                checkArgument(offset >= 0, "offset must not be negative");
+                checkArgument(limit >= 0, "limit must not be negative");
+                // Limits up to Integer.MAX_VALUE must not overflow the end
+                final int end = offset + Math.min(limit, Math.max(0, size - offset));
+                final ImmutableList.Builder<Text> builder = ImmutableList.builder();
+                for (int i = offset; i < end; i++) {
+                    builder.add(entry.apply(i));
+                }
+                return builder.build();
+            }
+
+            @Override
+            public OptionalInt getSize() {
+                return OptionalInt.of(size);
+            }
+        };
+    }
+
+    /**
+     * Gets the entries starting at the given offset. Fewer entries than
+     * requested are only returned if there are no more entries.
+     *
+     * @param offset The index of the first entry
+     * @param limit The maximum number of entries
+     * @return The entries
+     * @throws IllegalArgumentException If the offset or the limit is
+     *     negative
+     */
+    List<Text> getEntries(int offset, int limit);
+
+    /**
+     * Gets the number of entries of this source, if it is known without
+     * loading all entries.
+     *
+     * @return The number of entries, if known
+     */
+    default OptionalInt getSize() {
+        return OptionalInt.empty();
+    }
+
+}
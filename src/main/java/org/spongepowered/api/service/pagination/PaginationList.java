@@ -30,8 +30,10 @@
 import org.spongepowered.api.text.channel.MessageReceiver;
 import org.spongepowered.api.util.ResettableBuilder;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
+import java.util.OptionalInt;
 
 import javax.annotation.Nullable;
 
@@ -58,6 +60,17 @@ static Builder builder() {
      */
     Iterable<Text> getContents();
 
+    /**
+     * Gets the {@link PageSource} the contents of this pagination list are
+     * loaded from, if they are loaded lazily.
+     *
+     * @return The page source, if available
+     * @see Builder#contents(PageSource)
+     */
+    default Optional<PageSource> getSource() {
+        return Optional.empty();
+    }
+
     /**
      * Gets the title text to be used in the title bar of this pagination.
      *
@@ -141,6 +154,49 @@ interface Builder extends ResettableBuilder<PaginationList, Builder> {
          */
         Builder contents(Text... contents);
 
+        /**
+         * Sets the contents of this output to be loaded lazily from the
+         * given {@link PageSource}. Only the entries of the page which is
+         * sent are loaded, rendered and measured, so every page holds the
+         * same number of entries even if some of them span multiple lines.
+         *
+         * <p>By default, all entries are loaded at once and passed to
+         * {@link #contents(Iterable)}. Implementations should override
+         * this to load the pages lazily.</p>
+         *
+         * @param source The source of the contents
+         * @return this
+         */
+        default Builder contents(PageSource source) {
+            final OptionalInt size = source.getSize();
+            if (size.isPresent()) {
+                return contents(source.getEntries(0, size.getAsInt()));
+            }
+            final int batchSize = 100;
+            final List<Text> contents = new ArrayList<>();
+            List<Text> entries;
+            do {
+                entries = source.getEntries(contents.size(), batchSize);
+                contents.addAll(entries);
+            } while (entries.size() == batchSize);
+            return contents(contents);
+        }
+
+        /**
+         * Sets the maximum number of rendered pages which are cached for
+         * every receiver of lazily loaded contents, such that navigating
+         * back and forth does not load and render the pages again.
+         *
+         * <p>By default, this is ignored.</p>
+         *
+         * @param pages The maximum number of cached pages per receiver
+         * @return this
+         * @see #contents(PageSource)
+         */
+        default Builder cachedPages(int pages) {
+            return this;
+        }
+
         /**
          * Sets the title text to be used in the title bar of this pagination.
          * This should be less than one line long.
@@ -26,9 +26,12 @@
 
 import static com.google.common.base.Preconditions.checkNotNull;
 
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.MapMaker;
 import com.google.common.collect.Maps;
 
 import org.spongepowered.api.service.context.Context;
@@ -37,10 +40,13 @@
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
 
 import javax.annotation.Nullable;
 
@@ -51,7 +57,28 @@
  */
 public class MemorySubjectData implements SubjectData {
 
+    /**
+     * Incremented by {@link #invalidateResolvedPermissions()}, which
+     * invalidates the resolved permissions of all subject data. Changes of
+     * subject data in memory only invalidate the data itself and the data
+     * inheriting from it.
+     */
+    private static final AtomicLong GLOBAL_VERSION = new AtomicLong();
+    // The maximum number of resolved values cached per set of contexts
+    private static final int MAX_RESOLVED_PERMISSIONS = 1024;
+
     private final PermissionService service;
+    @Nullable private final Subject subject;
+    @Nullable private final PermissionIndex index;
+    // Serializes the updates of the permissions with those of the index
+    private final Object indexLock = new Object();
+    // Incremented on every change of this data or of the data of a parent
+    private final AtomicLong version = new AtomicLong();
+    // The data of subjects this subject was added to as a parent, which are
+    // invalidated along with this data. Links are kept when the parent is
+    // removed, which at most causes unnecessary invalidations.
+    private final Set<MemorySubjectData> children = Collections.newSetFromMap(new MapMaker().weakKeys().makeMap());
+    private volatile ResolvedPermissions resolved = new ResolvedPermissions(-1, -1);
     private final ConcurrentMap<Set<Context>, Map<String, String>> options = Maps.newConcurrentMap();
     private final ConcurrentMap<Set<Context>, NodeTree> permissions = Maps.newConcurrentMap();
     private final ConcurrentMap<Set<Context>, List<Map.Entry<String, String>>> parents = Maps.newConcurrentMap();
@@ -65,6 +92,149 @@ public class MemorySubjectData implements SubjectData {
     public MemorySubjectData(PermissionService service) {
         checkNotNull(service, "service");
         this.service = service;
+        this.subject = null;
+        this.index = null;
+    }
+
+    /**
+     * Creates a new subject data instance, using the provided service to
+     * request instances of permission subjects, which keeps the given
+     * {@link PermissionIndex} up to date with the permissions of the subject.
+     *
+     * @param service The service to request subjects from
+     * @param subject The subject owning this data
+     * @param index The index to update
+     */
+    public MemorySubjectData(PermissionService service, Subject subject, PermissionIndex index) {
+        this.service = checkNotNull(service, "service");
+        this.subject = checkNotNull(subject, "subject");
+        this.index = checkNotNull(index, "index");
+    }
+
+    /**
+     * Invalidates the resolved permissions of all subject data. This only
+     * has to be called when a parent subject that is not backed by a
+     * {@link MemorySubjectData} changed.
+     */
+    public static void invalidateResolvedPermissions() {
+        GLOBAL_VERSION.incrementAndGet();
+    }
+
+    /**
+     * Invalidates the resolved permissions of this data and of the data of
+     * all subjects inheriting from it.
+     */
+    private void invalidate() {
+        if (this.children.isEmpty()) {
+            this.version.incrementAndGet();
+        } else {
+            invalidate(Collections.newSetFromMap(new IdentityHashMap<>()));
+        }
+    }
+
+    private void invalidate(Set<MemorySubjectData> visited) {
+        // Inheritance is not guaranteed to be free of cycles
+        if (visited.add(this)) {
+            this.version.incrementAndGet();
+            for (MemorySubjectData child : this.children) {
+                child.invalidate(visited);
+            }
+        }
+    }
+
+    private boolean invalidateIf(boolean changed) {
+        if (changed) {
+            invalidate();
+        }
+        return changed;
+    }
+
+    private void link(Subject parent) {
+        final SubjectData data = parent.getSubjectData();
+        final SubjectData transientData = parent.getTransientSubjectData();
+        if (data instanceof MemorySubjectData) {
+            ((MemorySubjectData) data).children.add(this);
+        }
+        if (transientData instanceof MemorySubjectData) {
+            ((MemorySubjectData) transientData).children.add(this);
+        }
+    }
+
+    /**
+     * Resolves the value of the given permission in the given contexts,
+     * falling back to the values of the parents of the contexts in order if
+     * it is undefined in this data. Resolved values are cached until this
+     * data or the data of one of its parents changes.
+     *
+     * @param contexts The contexts to resolve the permission in
+     * @param permission The permission to resolve
+     * @return The resolved value
+     */
+    public Tristate resolvePermissionValue(Set<Context> contexts, String permission) {
+        return resolvePermissionValue(contexts, PermissionNode.of(permission));
+    }
+
+    /**
+     * Resolves the value of the given permission in the given contexts,
+     * falling back to the values of the parents of the contexts in order if
+     * it is undefined in this data. Resolved values are cached until this
+     * data or the data of one of its parents changes.
+     *
+     * @param contexts The contexts to resolve the permission in
+     * @param permission The permission to resolve
+     * @return The resolved value
+     */
+    public Tristate resolvePermissionValue(Set<Context> contexts, PermissionNode permission) {
+        checkNotNull(contexts, "contexts");
+        checkNotNull(permission, "permission");
+        // Read the versions before resolving, values resolved while the data
+        // changes end up in a cache that is already outdated
+        final long global = GLOBAL_VERSION.get();
+        final long current = this.version.get();
+        ResolvedPermissions resolved = this.resolved;
+        if (resolved.version != current || resolved.globalVersion != global) {
+            this.resolved = resolved = new ResolvedPermissions(current, global);
+        }
+        Cache<PermissionNode, Tristate> values = resolved.values.get(contexts);
+        if (values == null) {
+            values = resolved.values.computeIfAbsent(ImmutableSet.copyOf(contexts),
+                    key -> CacheBuilder.newBuilder().maximumSize(MAX_RESOLVED_PERMISSIONS).build());
+        }
+        Tristate value = values.getIfPresent(permission);
+        if (value == null) {
+            value = resolve(contexts, permission);
+            values.put(permission, value);
+        }
+        return value;
+    }
+
+    private Tristate resolve(Set<Context> contexts, PermissionNode permission) {
+        final NodeTree tree = this.permissions.get(contexts);
+        if (tree != null) {
+            final Tristate value = tree.get(permission);
+            if (value != Tristate.UNDEFINED) {
+                return value;
+            }
+        }
+        for (Subject parent : getParents(contexts)) {
+            final Tristate value = parent.getPermissionValue(contexts, permission);
+            if (value != Tristate.UNDEFINED) {
+                return value;
+            }
+        }
+        return Tristate.UNDEFINED;
+    }
+
+    private static final class ResolvedPermissions {
+
+        final long version;
+        final long globalVersion;
+        final ConcurrentMap<Set<Context>, Cache<PermissionNode, Tristate>> values = new ConcurrentHashMap<>();
+
+        ResolvedPermissions(long version, long globalVersion) {
+            this.version = version;
+            this.globalVersion = globalVersion;
+        }
     }
 
     @Override
@@ -98,36 +268,80 @@ public Map<String, Boolean> getPermissions(Set<Context> contexts) {
     @Override
     public boolean setPermission(Set<Context> contexts, String permission, Tristate value) {
         contexts = ImmutableSet.copyOf(contexts);
+        if (this.index == null) {
+            return invalidateIf(updatePermission(contexts, permission, value) != null);
+        }
+        // The index has to be updated in the same order as the trees, which
+        // concurrent updates of this subject could otherwise interleave
+        synchronized (this.indexLock) {
+            final NodeTree tree = updatePermission(contexts, permission, value);
+            if (tree == null) {
+                return false;
+            }
+            this.index.set(this.subject, contexts, tree);
+        }
+        invalidate();
+        return true;
+    }
+
+    /**
+     * Sets the permission in the tree of the contexts, returning the
+     * resulting tree or null if the value was already set.
+     */
+    @Nullable
+    private NodeTree updatePermission(Set<Context> contexts, String permission, Tristate value) {
         while (true) {
             NodeTree oldTree = this.permissions.get(contexts);
             if (oldTree != null && oldTree.get(permission) == value) {
-                return false;
+                return null;
             }
 
-            if (oldTree == null && value != Tristate.UNDEFINED) {
-                if (this.permissions.putIfAbsent(contexts, NodeTree.of(ImmutableMap.of(permission, value.asBoolean()))) == null) {
-                    break;
+            if (oldTree == null) {
+                if (value == Tristate.UNDEFINED) {
+                    // Reported as a change, as it always has been
+                    return NodeTree.of(Collections.emptyMap());
+                }
+                final NodeTree newTree = NodeTree.of(ImmutableMap.of(permission, value.asBoolean()));
+                if (this.permissions.putIfAbsent(contexts, newTree) == null) {
+                    return newTree;
                 }
             } else {
-                if (oldTree == null || this.permissions.replace(contexts, oldTree, oldTree.withValue(permission, value))) {
-                    break;
+                final NodeTree newTree = oldTree.withValue(permission, value);
+                if (this.permissions.replace(contexts, oldTree, newTree)) {
+                    return newTree;
                 }
             }
         }
-        return true;
-
     }
 
     @Override
     public boolean clearPermissions() {
-        boolean wasEmpty = this.permissions.isEmpty();
-        this.permissions.clear();
+        boolean wasEmpty;
+        if (this.index == null) {
+            wasEmpty = this.permissions.isEmpty();
+            this.permissions.clear();
+        } else {
+            synchronized (this.indexLock) {
+                wasEmpty = this.permissions.isEmpty();
+                this.permissions.clear();
+                this.index.clear(this.subject);
+            }
+        }
+        invalidate();
         return !wasEmpty;
     }
 
     @Override
     public boolean clearPermissions(Set<Context> context) {
-        return this.permissions.remove(context) != null;
+        if (this.index == null) {
+            return invalidateIf(this.permissions.remove(context) != null);
+        }
+        final boolean removed;
+        synchronized (this.indexLock) {
+            removed = this.permissions.remove(context) != null;
+            this.index.clear(this.subject, context);
+        }
+        return invalidateIf(removed);
     }
 
     @Override
@@ -170,6 +384,10 @@ public boolean addParent(Set<Context> contexts, Subject parent) {
             }
 
             if (updateCollection(this.parents, contexts, oldParents, newParents)) {
+                // Linked first, such that changes of the parent from now on
+                // invalidate the values resolved after the invalidation
+                link(parent);
+                invalidate();
                 return true;
             }
         }
@@ -204,6 +422,7 @@ public boolean removeParent(Set<Context> contexts, Subject parent) {
             newParents.remove(removeEnt);
 
             if (updateCollection(this.parents, contexts, oldParents, Collections.unmodifiableList(newParents))) {
+                invalidate();
                 return true;
             }
         }
@@ -214,12 +433,13 @@ public boolean removeParent(Set<Context> contexts, Subject parent) {
     public boolean clearParents() {
         boolean wasEmpty = this.parents.isEmpty();
         this.parents.clear();
+        invalidate();
         return !wasEmpty;
     }
 
     @Override
     public boolean clearParents(Set<Context> contexts) {
-        return this.parents.remove(contexts) != null;
+        return invalidateIf(this.parents.remove(contexts) != null);
     }
 
     @Override
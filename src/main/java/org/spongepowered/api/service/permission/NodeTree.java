@@ -27,9 +27,10 @@
 import com.google.common.collect.ImmutableMap;
 import org.spongepowered.api.util.Tristate;
 
-import java.util.HashMap;
+import java.util.Arrays;
 import java.util.Map;
-import java.util.regex.Pattern;
+
+import javax.annotation.Nullable;
 
 /**
  * An immutable tree structure for determining node data. Any changes will
@@ -42,13 +43,10 @@
  */
 public class NodeTree {
 
-    private static final Pattern SPLIT_REGEX = Pattern.compile("\\.");
     private final Node rootNode;
 
-
     private NodeTree(Tristate value) {
-        this.rootNode = new Node(new HashMap<>());
-        this.rootNode.value = value;
+        this.rootNode = new Node(value);
     }
 
     private NodeTree(Node rootNode) {
@@ -77,16 +75,15 @@ public static NodeTree of(Map<String, Boolean> values) {
     public static NodeTree of(Map<String, Boolean> values, Tristate defaultValue) {
         NodeTree newTree = new NodeTree(defaultValue);
         for (Map.Entry<String, Boolean> value : values.entrySet()) {
-            String[] parts = SPLIT_REGEX.split(value.getKey().toLowerCase());
             Node currentNode = newTree.rootNode;
-            for (String part : parts) {
-                if (currentNode.children.containsKey(part)) {
-                    currentNode = currentNode.children.get(part);
-                } else {
-                    Node newNode = new Node(new HashMap<>());
-                    currentNode.children.put(part, newNode);
-                    currentNode = newNode;
+            for (String part : PermissionNode.parse(value.getKey()).parts) {
+                Node child = currentNode.get(part);
+                if (child == null) {
+                    child = new Node(Tristate.UNDEFINED);
+                    // The tree is not shared yet, so its nodes can be modified in place
+                    currentNode.put(part, child);
                 }
+                currentNode = child;
             }
             currentNode.value = Tristate.fromBoolean(value.getValue());
         }
@@ -101,20 +98,30 @@ public static NodeTree of(Map<String, Boolean> values, Tristate defaultValue) {
      * @return The tristate value for the given node
      */
     public Tristate get(String node) {
-        String[] parts = SPLIT_REGEX.split(node.toLowerCase());
+        return get(PermissionNode.parse(node));
+    }
+
+    /**
+     * Returns the value assigned to a specific node, or the nearest parent
+     * value in the tree if the node itself is undefined. Unlike
+     * {@link #get(String)} this does not need to parse the node.
+     *
+     * @param node The node to get the value at
+     * @return The tristate value for the given node
+     */
+    public Tristate get(PermissionNode node) {
         Node currentNode = this.rootNode;
         Tristate lastUndefinedVal = Tristate.UNDEFINED;
-        for (String str : parts) {
-            if (!currentNode.children.containsKey(str)) {
+        for (String part : node.parts) {
+            currentNode = currentNode.get(part);
+            if (currentNode == null) {
                 break;
             }
-            currentNode = currentNode.children.get(str);
             if (currentNode.value != Tristate.UNDEFINED) {
                 lastUndefinedVal = currentNode.value;
             }
         }
         return lastUndefinedVal;
-
     }
 
     /**
@@ -124,8 +131,8 @@ public Tristate get(String node) {
      */
     public Map<String, Boolean> asMap() {
         ImmutableMap.Builder<String, Boolean> ret = ImmutableMap.builder();
-        for (Map.Entry<String, Node> ent : this.rootNode.children.entrySet()) {
-            populateMap(ret, ent.getKey(), ent.getValue());
+        for (int i = 0; i < this.rootNode.keys.length; i++) {
+            populateMap(ret, this.rootNode.keys[i], this.rootNode.children[i]);
         }
         return ret.build();
     }
@@ -134,8 +141,8 @@ private void populateMap(ImmutableMap.Builder<String, Boolean> values, String pr
         if (currentNode.value != Tristate.UNDEFINED) {
             values.put(prefix, currentNode.value.asBoolean());
         }
-        for (Map.Entry<String, Node> ent : currentNode.children.entrySet()) {
-            populateMap(values, prefix + '.' + ent.getKey(), ent.getValue());
+        for (int i = 0; i < currentNode.keys.length; i++) {
+            populateMap(values, prefix + '.' + currentNode.keys[i], currentNode.children[i]);
         }
     }
 
@@ -147,21 +154,30 @@ private void populateMap(ImmutableMap.Builder<String, Boolean> values, String pr
      * @return The new, modified node tree
      */
     public NodeTree withValue(String node, Tristate value) {
-        String[] parts = SPLIT_REGEX.split(node.toLowerCase());
-        Node newRoot = new Node(new HashMap<>(this.rootNode.children));
-        Node newPtr = newRoot;
-        Node currentPtr = this.rootNode;
-
-        newPtr.value = currentPtr == null ? Tristate.UNDEFINED : currentPtr.value;
-        for (String part : parts) {
-            Node oldChild = currentPtr == null ? null : currentPtr.children.get(part);
-            Node newChild = new Node(oldChild != null ? new HashMap<>(oldChild.children) : new HashMap<>());
-            newPtr.children.put(part, newChild);
-            currentPtr = oldChild;
-            newPtr = newChild;
+        return withValue(PermissionNode.parse(node), value);
+    }
+
+    /**
+     * Return a new NodeTree instance with a single changed value. Only the
+     * nodes along the path of the changed node are copied, all other nodes
+     * are shared with this tree.
+     *
+     * @param node The node to change the value of
+     * @param value The value to change, or UNDEFINED to remove
+     * @return The new, modified node tree
+     */
+    public NodeTree withValue(PermissionNode node, Tristate value) {
+        return new NodeTree(with(this.rootNode, node.parts, 0, value));
+    }
+
+    private static Node with(@Nullable Node node, String[] parts, int index, Tristate value) {
+        final Node copy = node == null ? new Node(Tristate.UNDEFINED) : node.copy();
+        if (index == parts.length) {
+            copy.value = value;
+        } else {
+            copy.put(parts[index], with(node == null ? null : node.get(parts[index]), parts, index + 1, value));
         }
-        newPtr.value = value;
-        return new NodeTree(newRoot);
+        return copy;
     }
 
     /**
@@ -178,13 +194,60 @@ public NodeTree withAll(Map<String, Tristate> values) {
         return ret;
     }
 
-    private static class Node {
+    /**
+     * A node of the tree. The children are kept in arrays sorted by their
+     * keys, which are never modified once the node is shared: adding a child
+     * replaces the arrays.
+     */
+    private static final class Node {
+
+        private static final String[] NO_KEYS = new String[0];
+        private static final Node[] NO_CHILDREN = new Node[0];
 
-        final Map<String, Node> children;
-        Tristate value = Tristate.UNDEFINED;
+        String[] keys;
+        Node[] children;
+        Tristate value;
+
+        Node(Tristate value) {
+            this(NO_KEYS, NO_CHILDREN, value);
+        }
 
-        Node(Map<String, Node> children) {
+        private Node(String[] keys, Node[] children, Tristate value) {
+            this.keys = keys;
             this.children = children;
+            this.value = value;
+        }
+
+        @Nullable
+        Node get(String key) {
+            final int index = Arrays.binarySearch(this.keys, key);
+            return index < 0 ? null : this.children[index];
+        }
+
+        void put(String key, Node child) {
+            final int index = Arrays.binarySearch(this.keys, key);
+            if (index >= 0) {
+                final Node[] children = this.children.clone();
+                children[index] = child;
+                this.children = children;
+            } else {
+                final int insert = -(index + 1);
+                final int length = this.keys.length;
+                final String[] keys = new String[length + 1];
+                final Node[] children = new Node[length + 1];
+                System.arraycopy(this.keys, 0, keys, 0, insert);
+                System.arraycopy(this.children, 0, children, 0, insert);
+                keys[insert] = key;
+                children[insert] = child;
+                System.arraycopy(this.keys, insert, keys, insert + 1, length - insert);
+                System.arraycopy(this.children, insert, children, insert + 1, length - insert);
+                this.keys = keys;
+                this.children = children;
+            }
+        }
+
+        Node copy() {
+            return new Node(this.keys, this.children, this.value);
         }
     }
 }
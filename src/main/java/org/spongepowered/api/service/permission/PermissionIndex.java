@@ -0,0 +1,198 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.service.permission;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import com.google.common.collect.ImmutableSet;
+import org.spongepowered.api.service.context.Context;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * A reverse index from permission nodes to the subjects that have a value
+ * set for them, which allows a {@link SubjectCollection} to answer
+ * {@link SubjectCollection#getAllWithPermission(Set, String)} without
+ * visiting every subject.
+ *
+ * <p>The index only covers permissions set directly on the data of a
+ * subject, as it is kept up to date by a {@link MemorySubjectData} created
+ * with {@link MemorySubjectData#MemorySubjectData(PermissionService, Subject,
+ * PermissionIndex)}. Lookups follow the rules of a {@link NodeTree}: the value
+ * of the most specific node set along the path of the permission wins.</p>
+ *
+ * <p>This class is thread-safe. The updates of a single subject have to be
+ * applied in the same order as the changes they reflect, which
+ * {@link MemorySubjectData} guarantees by applying them while holding the
+ * lock it updates the permissions of the subject with.</p>
+ */
+public final class PermissionIndex {
+
+    private final ConcurrentMap<Set<Context>, ConcurrentMap<PermissionNode, ConcurrentMap<Subject, Boolean>>> index =
+            new ConcurrentHashMap<>();
+    // The nodes set per subject, required to clear the entries of a subject
+    private final ConcurrentMap<Subject, ConcurrentMap<Set<Context>, Set<PermissionNode>>> bySubject = new ConcurrentHashMap<>();
+
+    /**
+     * Updates the permissions of the given subject in the given contexts to
+     * the values defined in the given tree, which replace all values
+     * previously indexed for them. This takes time proportional to the
+     * number of values defined in the tree.
+     *
+     * @param subject The subject
+     * @param contexts The contexts the permissions are set in
+     * @param permissions The permissions of the subject in the contexts
+     */
+    public void set(Subject subject, Set<Context> contexts, NodeTree permissions) {
+        checkNotNull(subject, "subject");
+        checkNotNull(contexts, "contexts");
+        checkNotNull(permissions, "permissions");
+        final Set<Context> key = ImmutableSet.copyOf(contexts);
+        final Map<PermissionNode, Boolean> values = new HashMap<>();
+        permissions.asMap().forEach((permission, value) -> values.put(PermissionNode.of(permission), value));
+
+        final Set<PermissionNode> removed = new HashSet<>();
+        this.bySubject.compute(subject, (k, subjectNodes) -> {
+            if (subjectNodes == null) {
+                subjectNodes = new ConcurrentHashMap<>();
+            }
+            final Set<PermissionNode> previous = values.isEmpty() ? subjectNodes.remove(key)
+                    : subjectNodes.put(key, ImmutableSet.copyOf(values.keySet()));
+            if (previous != null) {
+                for (PermissionNode node : previous) {
+                    if (!values.containsKey(node)) {
+                        removed.add(node);
+                    }
+                }
+            }
+            return subjectNodes.isEmpty() ? null : subjectNodes;
+        });
+        remove(subject, key, removed);
+        if (values.isEmpty()) {
+            return;
+        }
+        // Every modification of a nested map happens inside of a compute of
+        // its parent, such that empty maps can be removed atomically
+        this.index.compute(key, (k, current) -> {
+            final ConcurrentMap<PermissionNode, ConcurrentMap<Subject, Boolean>> nodes =
+                    current == null ? new ConcurrentHashMap<>() : current;
+            values.forEach((node, value) -> nodes.compute(node, (k2, subjects) -> {
+                if (subjects == null) {
+                    subjects = new ConcurrentHashMap<>();
+                }
+                subjects.put(subject, value);
+                return subjects;
+            }));
+            return nodes;
+        });
+    }
+
+    /**
+     * Removes all permissions of the given subject in the given contexts
+     * from the index.
+     *
+     * @param subject The subject
+     * @param contexts The contexts
+     */
+    public void clear(Subject subject, Set<Context> contexts) {
+        checkNotNull(subject, "subject");
+        checkNotNull(contexts, "contexts");
+        this.bySubject.computeIfPresent(subject, (k, subjectNodes) -> {
+            final Set<PermissionNode> set = subjectNodes.remove(contexts);
+            if (set != null) {
+                remove(subject, contexts, set);
+            }
+            return subjectNodes.isEmpty() ? null : subjectNodes;
+        });
+    }
+
+    /**
+     * Removes all permissions of the given subject from the index.
+     *
+     * @param subject The subject
+     */
+    public void clear(Subject subject) {
+        checkNotNull(subject, "subject");
+        final Map<Set<Context>, Set<PermissionNode>> subjectNodes = this.bySubject.remove(subject);
+        if (subjectNodes != null) {
+            subjectNodes.forEach((contexts, set) -> remove(subject, contexts, set));
+        }
+    }
+
+    private void remove(Subject subject, Set<Context> contexts, Set<PermissionNode> set) {
+        this.index.computeIfPresent(contexts, (k, nodes) -> {
+            for (PermissionNode node : set) {
+                nodes.computeIfPresent(node, (k2, subjects) -> {
+                    subjects.remove(subject);
+                    return subjects.isEmpty() ? null : subjects;
+                });
+            }
+            return nodes.isEmpty() ? null : nodes;
+        });
+    }
+
+    /**
+     * Gets whether the index contains no entries at all.
+     *
+     * @return True if the index is empty
+     */
+    public boolean isEmpty() {
+        return this.index.isEmpty() && this.bySubject.isEmpty();
+    }
+
+    /**
+     * Gets all subjects with a value set for the given permission or one of
+     * its parents in the given contexts. This takes time proportional to the
+     * number of matching subjects.
+     *
+     * @param contexts The contexts
+     * @param permission The permission
+     * @return The subjects, and the value the permission is set to
+     */
+    public Map<Subject, Boolean> getAllWithPermission(Set<Context> contexts, String permission) {
+        checkNotNull(contexts, "contexts");
+        final Map<PermissionNode, ConcurrentMap<Subject, Boolean>> nodes = this.index.get(contexts);
+        if (nodes == null) {
+            return Collections.emptyMap();
+        }
+        final PermissionNode[] path = PermissionNode.of(permission).getPath();
+        final Map<Subject, Boolean> result = new HashMap<>();
+        // Most specific first, such that the value set nearest to the node wins
+        for (int i = path.length - 1; i >= 0; i--) {
+            final Map<Subject, Boolean> subjects = nodes.get(path[i]);
+            if (subjects != null) {
+                subjects.forEach(result::putIfAbsent);
+            }
+        }
+        return Collections.unmodifiableMap(result);
+    }
+
+}
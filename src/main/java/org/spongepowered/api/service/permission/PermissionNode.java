@@ -0,0 +1,171 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.service.permission;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import com.google.common.collect.Interner;
+import com.google.common.collect.Interners;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import javax.annotation.Nullable;
+
+/**
+ * A compiled permission node, which has already been lower-cased and split
+ * into its segments. Nodes are interned, such that they may be created once
+ * and cached by callers checking the same permission many times.
+ *
+ * @see NodeTree#get(PermissionNode)
+ * @see Subject#getPermissionValue(java.util.Set, PermissionNode)
+ */
+public final class PermissionNode {
+
+    private static final Interner<PermissionNode> INTERNER = Interners.newWeakInterner();
+
+    /**
+     * Gets the interned {@link PermissionNode} of the given permission
+     * string. Permission strings are case-insensitive, and their segments
+     * are split by the '.' character.
+     *
+     * @param permission The permission string
+     * @return The permission node
+     */
+    public static PermissionNode of(String permission) {
+        return INTERNER.intern(parse(permission));
+    }
+
+    /**
+     * Parses the permission string without interning the node, for one-off
+     * lookups by permission string.
+     */
+    static PermissionNode parse(String permission) {
+        checkNotNull(permission, "permission");
+        final String node = permission.toLowerCase();
+        return new PermissionNode(node, split(node));
+    }
+
+    /**
+     * Splits the node by the '.' character, dropping trailing empty segments
+     * the same way {@link String#split(String)} does.
+     */
+    private static String[] split(String node) {
+        int end = node.length();
+        while (end > 0 && node.charAt(end - 1) == '.') {
+            end--;
+        }
+        if (end == 0) {
+            return node.isEmpty() ? new String[] {node} : new String[0];
+        }
+        final List<String> parts = new ArrayList<>();
+        int start = 0;
+        for (int i = 0; i < end; i++) {
+            if (node.charAt(i) == '.') {
+                parts.add(node.substring(start, i));
+                start = i + 1;
+            }
+        }
+        parts.add(node.substring(start, end));
+        return parts.toArray(new String[parts.size()]);
+    }
+
+    private final String node;
+    final String[] parts;
+    private final int hash;
+    // lazily computed, the nodes of all parents followed by this node. The
+    // array is filled before it is published through the volatile field
+    @Nullable private volatile PermissionNode[] path;
+
+    private PermissionNode(String node, String[] parts) {
+        this.node = node;
+        this.parts = parts;
+        this.hash = node.hashCode();
+    }
+
+    /**
+     * Gets the lower-cased permission string of this node.
+     *
+     * @return The permission string
+     */
+    public String getNode() {
+        return this.node;
+    }
+
+    /**
+     * Gets the segments of this node.
+     *
+     * @return An unmodifiable list of the segments
+     */
+    public List<String> getParts() {
+        return Collections.unmodifiableList(Arrays.asList(this.parts));
+    }
+
+    /**
+     * Gets the interned nodes of all parents of this node, followed by this
+     * node itself. For example the path of {@code a.b.c} is {@code a},
+     * {@code a.b} and {@code a.b.c}.
+     */
+    PermissionNode[] getPath() {
+        PermissionNode[] path = this.path;
+        if (path == null) {
+            path = new PermissionNode[this.parts.length];
+            int end = 0;
+            for (int i = 0; i < this.parts.length; i++) {
+                end += this.parts[i].length();
+                path[i] = i == this.parts.length - 1 ? this
+                        : INTERNER.intern(new PermissionNode(this.node.substring(0, end), Arrays.copyOf(this.parts, i + 1)));
+                end++;
+            }
+            this.path = path;
+        }
+        return path;
+    }
+
+    @Override
+    public boolean equals(@Nullable Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (!(obj instanceof PermissionNode)) {
+            return false;
+        }
+        final PermissionNode other = (PermissionNode) obj;
+        return this.hash == other.hash && this.node.equals(other.node);
+    }
+
+    @Override
+    public int hashCode() {
+        return this.hash;
+    }
+
+    @Override
+    public String toString() {
+        return this.node;
+    }
+
+}
@@ -162,6 +162,46 @@ default boolean hasPermission(String permission) {
      */
     Tristate getPermissionValue(Set<Context> contexts, String permission);
 
+    /**
+     * Returns the calculated value set for a given compiled permission node.
+     * This follows the same contract as
+     * {@link #getPermissionValue(Set, String)}, implementations should
+     * override it to avoid parsing the permission again.
+     *
+     * @param contexts The contexts to check for permissions in
+     * @param permission The permission node to check
+     * @return The tristate true/false/unset value for permissions
+     */
+    default Tristate getPermissionValue(Set<Context> contexts, PermissionNode permission) {
+        return getPermissionValue(contexts, permission.getNode());
+    }
+
+    /**
+     * Test whether the subject is permitted to perform an action corresponding
+     * to the given compiled permission node, see
+     * {@link #hasPermission(Set, String)}.
+     *
+     * @param contexts The set of contexts that represents the subject's current
+     *     environment
+     * @param permission The permission node
+     * @return True if permission is granted
+     */
+    default boolean hasPermission(Set<Context> contexts, PermissionNode permission) {
+        return getPermissionValue(contexts, permission).asBoolean();
+    }
+
+    /**
+     * Test whether the subject is permitted to perform an action corresponding
+     * to the given compiled permission node using
+     * {@link #getActiveContexts()}.
+     *
+     * @param permission The permission node
+     * @return True if permission is granted
+     */
+    default boolean hasPermission(PermissionNode permission) {
+        return hasPermission(getActiveContexts(), permission);
+    }
+
     /**
      * Check if this subject is a child of the given parent in the subject's
      * current context, traversing inheritance. This must return the same value
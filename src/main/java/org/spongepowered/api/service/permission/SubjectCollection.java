@@ -26,6 +26,8 @@
 
 import org.spongepowered.api.service.context.Context;
 
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.Map;
 import java.util.Set;
 
@@ -91,6 +93,30 @@ public interface SubjectCollection {
      */
     Map<Subject, Boolean> getAllWithPermission(Set<Context> contexts, String permission);
 
+    /**
+     * Return all known subjects with the given permission information that
+     * are currently online, that is subjects which have a
+     * {@link Subject#getCommandSource() command source}. Because no context
+     * is passed, only subjects who have this permission globally or subjects
+     * which have accurate context calculations are returned.
+     *
+     * <p>Implementations keeping a {@link PermissionIndex} should override
+     * this to avoid looking up offline subjects.</p>
+     *
+     * @param permission The permission to check
+     * @return Any online subject known to have this permission set, and the
+     *         value this permission is set to
+     */
+    default Map<Subject, Boolean> getOnlineWithPermission(String permission) {
+        final Map<Subject, Boolean> ret = new HashMap<>();
+        getAllWithPermission(permission).forEach((subject, value) -> {
+            if (subject.getCommandSource().isPresent()) {
+                ret.put(subject, value);
+            }
+        });
+        return Collections.unmodifiableMap(ret);
+    }
+
     /**
      * Gets the subject holding data that is applied by default for subjects of
      * this type. This subject is placed at the root of any inheritance tree
@@ -0,0 +1,395 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.service.sql;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.ThreadSafe;
+import javax.sql.DataSource;
+
+/**
+ * Executes statements against a {@link DataSource} asynchronously, on a
+ * bounded pool of threads shared by the executors of a {@link SqlService},
+ * and records the latency of the statements and the time they waited for
+ * a thread of the pool.
+ *
+ * @see SqlService#getExecutor(Object, String)
+ */
+@ThreadSafe
+public final class SqlExecutor {
+
+    private final DataSource dataSource;
+    private final ScheduledExecutorService executor;
+    private final Metrics metrics = new Metrics();
+
+    /**
+     * Creates a new executor.
+     *
+     * @param dataSource The data source to get connections from
+     * @param executor The pool to execute statements on, and to schedule
+     *     the flushes of {@link BatchWriter}s with
+     */
+    public SqlExecutor(DataSource dataSource, ScheduledExecutorService executor) {
+        this.dataSource = checkNotNull(dataSource, "dataSource");
+        this.executor = checkNotNull(executor, "executor");
+    }
+
+    /**
+     * Gets the data source of this executor.
+     *
+     * @return The data source
+     */
+    public DataSource getDataSource() {
+        return this.dataSource;
+    }
+
+    /**
+     * Gets the metrics of the statements executed by this executor.
+     *
+     * @return The metrics
+     */
+    public Metrics getMetrics() {
+        return this.metrics;
+    }
+
+    /**
+     * Executes the given function with a connection of the data source, which
+     * is closed once the function returns.
+     *
+     * @param function The function
+     * @param <T> The type of the result
+     * @return The result of the function, completed exceptionally with the
+     *     {@link SQLException} thrown by the function, if any
+     */
+    public <T> CompletableFuture<T> execute(SqlFunction<Connection, T> function) {
+        checkNotNull(function, "function");
+        final long submitted = System.nanoTime();
+        return CompletableFuture.supplyAsync(() -> {
+            final long start = System.nanoTime();
+            this.metrics.waitNanos.add(start - submitted);
+            try (Connection connection = this.dataSource.getConnection()) {
+                return function.apply(connection);
+            } catch (SQLException e) {
+                this.metrics.failures.increment();
+                throw new CompletionException(e);
+            } finally {
+                this.metrics.statements.increment();
+                this.metrics.executionNanos.add(System.nanoTime() - start);
+            }
+        }, this.executor);
+    }
+
+    /**
+     * Executes the given query, and maps its {@link ResultSet} with the
+     * given function before the connection is closed.
+     *
+     * @param sql The query
+     * @param parameters The function setting the parameters of the statement
+     * @param mapper The function mapping the result set
+     * @param <T> The type of the result
+     * @return The mapped result
+     */
+    public <T> CompletableFuture<T> query(String sql, SqlConsumer<PreparedStatement> parameters, SqlFunction<ResultSet, T> mapper) {
+        checkNotNull(sql, "sql");
+        checkNotNull(parameters, "parameters");
+        checkNotNull(mapper, "mapper");
+        return execute(connection -> {
+            try (PreparedStatement statement = connection.prepareStatement(sql)) {
+                parameters.accept(statement);
+                try (ResultSet resultSet = statement.executeQuery()) {
+                    return mapper.apply(resultSet);
+                }
+            }
+        });
+    }
+
+    /**
+     * Executes the given update.
+     *
+     * @param sql The update
+     * @param parameters The function setting the parameters of the statement
+     * @return The number of updated rows
+     */
+    public CompletableFuture<Integer> update(String sql, SqlConsumer<PreparedStatement> parameters) {
+        checkNotNull(sql, "sql");
+        checkNotNull(parameters, "parameters");
+        return execute(connection -> {
+            try (PreparedStatement statement = connection.prepareStatement(sql)) {
+                parameters.accept(statement);
+                return statement.executeUpdate();
+            }
+        });
+    }
+
+    /**
+     * Creates a new {@link BatchWriter}, which collects the parameters of
+     * the given statement and executes them as a single batch once
+     * {@code maxSize} are pending, or the given interval passed.
+     *
+     * @param sql The statement
+     * @param maxSize The maximum number of pending parameters
+     * @param flushInterval The maximum time parameters are pending
+     * @param unit The unit of the interval
+     * @return The batch writer
+     */
+    public BatchWriter batchWriter(String sql, int maxSize, long flushInterval, TimeUnit unit) {
+        checkNotNull(sql, "sql");
+        checkArgument(maxSize > 0, "maxSize must be positive");
+        checkArgument(flushInterval > 0, "flushInterval must be positive");
+        checkNotNull(unit, "unit");
+        return new BatchWriter(sql, maxSize, flushInterval, unit);
+    }
+
+    /**
+     * Collects the parameters of a statement, which are written in batches.
+     *
+     * @see SqlExecutor#batchWriter(String, int, long, TimeUnit)
+     */
+    @ThreadSafe
+    public final class BatchWriter implements AutoCloseable {
+
+        private final String sql;
+        private final int maxSize;
+        private final ScheduledFuture<?> flushTask;
+        private List<SqlConsumer<PreparedStatement>> pending = new ArrayList<>();
+        private List<CompletableFuture<Integer>> futures = new ArrayList<>();
+        private boolean closed;
+
+        BatchWriter(String sql, int maxSize, long flushInterval, TimeUnit unit) {
+            this.sql = sql;
+            this.maxSize = maxSize;
+            this.flushTask = SqlExecutor.this.executor.scheduleAtFixedRate(this::flush, flushInterval, flushInterval, unit);
+        }
+
+        /**
+         * Adds the parameters of a statement to the batch.
+         *
+         * @param parameters The function setting the parameters
+         * @return The number of rows updated by the statement, once the batch
+         *     was written, or {@link Statement#SUCCESS_NO_INFO} if the driver
+         *     did not report it
+         */
+        public CompletableFuture<Integer> add(SqlConsumer<PreparedStatement> parameters) {
+            checkNotNull(parameters, "parameters");
+            final CompletableFuture<Integer> future = new CompletableFuture<>();
+            final boolean flush;
+            synchronized (this) {
+                if (this.closed) {
+                    throw new IllegalStateException("The batch writer is closed");
+                }
+                this.pending.add(parameters);
+                this.futures.add(future);
+                flush = this.pending.size() >= this.maxSize;
+            }
+            if (flush) {
+                flush();
+            }
+            return future;
+        }
+
+        /**
+         * Writes all pending parameters as a single batch, within a
+         * transaction.
+         *
+         * @return A future completed once the batch was written
+         */
+        public CompletableFuture<Void> flush() {
+            final List<SqlConsumer<PreparedStatement>> pending;
+            final List<CompletableFuture<Integer>> futures;
+            synchronized (this) {
+                if (this.pending.isEmpty()) {
+                    return CompletableFuture.completedFuture(null);
+                }
+                pending = this.pending;
+                futures = this.futures;
+                this.pending = new ArrayList<>();
+                this.futures = new ArrayList<>();
+            }
+            return execute(connection -> write(connection, pending)).handle((counts, t) -> {
+                for (int i = 0; i < futures.size(); i++) {
+                    if (t != null) {
+                        futures.get(i).completeExceptionally(t instanceof CompletionException ? t.getCause() : t);
+                    } else {
+                        // Drivers may return fewer counts than statements, every
+                        // future has to be completed regardless
+                        futures.get(i).complete(i < counts.length ? counts[i] : Statement.SUCCESS_NO_INFO);
+                    }
+                }
+                return null;
+            });
+        }
+
+        private int[] write(Connection connection, List<SqlConsumer<PreparedStatement>> pending) throws SQLException {
+            final boolean autoCommit = connection.getAutoCommit();
+            connection.setAutoCommit(false);
+            try (PreparedStatement statement = connection.prepareStatement(this.sql)) {
+                for (SqlConsumer<PreparedStatement> parameters : pending) {
+                    parameters.accept(statement);
+                    statement.addBatch();
+                }
+                final int[] counts = statement.executeBatch();
+                connection.commit();
+                return counts;
+            } catch (SQLException e) {
+                connection.rollback();
+                throw e;
+            } finally {
+                connection.setAutoCommit(autoCommit);
+            }
+        }
+
+        /**
+         * Stops the periodic flushes of this writer, and writes all pending
+         * parameters.
+         */
+        @Override
+        public void close() {
+            synchronized (this) {
+                this.closed = true;
+            }
+            this.flushTask.cancel(false);
+            flush();
+        }
+    }
+
+    /**
+     * The metrics of the statements executed by a {@link SqlExecutor}. A
+     * batch written by a {@link BatchWriter} counts as a single statement.
+     */
+    public static final class Metrics {
+
+        final LongAdder statements = new LongAdder();
+        final LongAdder failures = new LongAdder();
+        final LongAdder executionNanos = new LongAdder();
+        final LongAdder waitNanos = new LongAdder();
+
+        Metrics() {
+        }
+
+        /**
+         * Gets the number of executed statements.
+         *
+         * @return The number of statements
+         */
+        public long getStatementCount() {
+            return this.statements.sum();
+        }
+
+        /**
+         * Gets the number of statements which failed with an
+         * {@link SQLException}.
+         *
+         * @return The number of failed statements
+         */
+        public long getFailureCount() {
+            return this.failures.sum();
+        }
+
+        /**
+         * Gets the total time spent executing statements, including the
+         * time to get a connection.
+         *
+         * @param unit The unit of the returned time
+         * @return The total execution time
+         */
+        public long getTotalExecutionTime(TimeUnit unit) {
+            return unit.convert(this.executionNanos.sum(), TimeUnit.NANOSECONDS);
+        }
+
+        /**
+         * Gets the total time statements waited for a thread of the pool.
+         *
+         * @param unit The unit of the returned time
+         * @return The total wait time
+         */
+        public long getTotalWaitTime(TimeUnit unit) {
+            return unit.convert(this.waitNanos.sum(), TimeUnit.NANOSECONDS);
+        }
+
+        /**
+         * Resets the metrics to zero.
+         */
+        public void reset() {
+            this.statements.reset();
+            this.failures.reset();
+            this.executionNanos.reset();
+            this.waitNanos.reset();
+        }
+    }
+
+    /**
+     * A function which may throw a {@link SQLException}.
+     *
+     * @param <T> The type of the argument
+     * @param <R> The type of the result
+     */
+    @FunctionalInterface
+    public interface SqlFunction<T, R> {
+
+        /**
+         * Applies this function.
+         *
+         * @param t The argument
+         * @return The result
+         * @throws SQLException If a database access error occurs
+         */
+        @Nullable
+        R apply(T t) throws SQLException;
+    }
+
+    /**
+     * A consumer which may throw a {@link SQLException}.
+     *
+     * @param <T> The type of the argument
+     */
+    @FunctionalInterface
+    public interface SqlConsumer<T> {
+
+        /**
+         * Performs this operation.
+         *
+         * @param t The argument
+         * @throws SQLException If a database access error occurs
+         */
+        void accept(T t) throws SQLException;
+    }
+
+}
@@ -24,6 +24,9 @@
  */
 package org.spongepowered.api.service.sql;
 
+import org.spongepowered.api.Sponge;
+import org.spongepowered.api.scheduler.Scheduler;
+
 import java.sql.SQLException;
 import java.util.Optional;
 
@@ -80,4 +83,26 @@ public interface SqlService {
      *          or {@link Optional#empty()}
      */
     Optional<String> getConnectionUrlFromAlias(String alias);
+
+    /**
+     * Returns an executor running statements asynchronously against the
+     * data source of the provided JDBC connection string or alias, as
+     * returned by {@link #getDataSource(Object, String)}.
+     *
+     * <p>The executors of all plugins should share a bounded pool of threads
+     * owned by the service, while the {@link SqlExecutor#getMetrics()
+     * metrics} are recorded per plugin and connection. By default, a new
+     * executor running on the {@link Scheduler#createAsyncExecutor(Object)
+     * async executor} of the plugin is returned.</p>
+     *
+     * @param plugin The plugin to lookup databases relative to, and to
+     *     record the metrics of
+     * @param jdbcConnection The jdbc url or connection alias
+     * @return An executor for the given URL
+     * @throws SQLException if a connection to the given database could not
+     *     be established
+     */
+    default SqlExecutor getExecutor(Object plugin, String jdbcConnection) throws SQLException {
+        return new SqlExecutor(getDataSource(plugin, jdbcConnection), Sponge.getScheduler().createAsyncExecutor(plugin));
+    }
 }
@@ -0,0 +1,154 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.service.user;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import com.google.common.collect.ImmutableList;
+import org.spongepowered.api.profile.GameProfile;
+
+import java.util.Collection;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+/**
+ * An index of {@link GameProfile}s sorted by their case-insensitive names,
+ * which finds the profiles whose names start with a prefix in time
+ * proportional to the number of matches, rather than the number of
+ * profiles. {@link UserStorageService} implementations may use it to back
+ * {@link UserStorageService#match(String)}.
+ *
+ * <p>This class is thread-safe.</p>
+ */
+public final class ProfileNameIndex {
+
+    private final ConcurrentSkipListMap<String, Map<UUID, GameProfile>> byName = new ConcurrentSkipListMap<>();
+    private final ConcurrentMap<UUID, String> names = new ConcurrentHashMap<>();
+
+    /**
+     * Adds the given profile to the index, replacing the previous name of
+     * the profile. Profiles without a name are removed from the index.
+     *
+     * @param profile The profile
+     */
+    public synchronized void add(GameProfile profile) {
+        checkNotNull(profile, "profile");
+        final Optional<String> name = profile.getName();
+        if (!name.isPresent()) {
+            remove(profile.getUniqueId());
+            return;
+        }
+        final String key = normalize(name.get());
+        final String oldKey = this.names.put(profile.getUniqueId(), key);
+        if (oldKey != null && !oldKey.equals(key)) {
+            removeName(oldKey, profile.getUniqueId());
+        }
+        this.byName.computeIfAbsent(key, k -> new ConcurrentHashMap<>(1)).put(profile.getUniqueId(), profile);
+    }
+
+    /**
+     * Removes the profile with the given unique id from the index.
+     *
+     * @param uniqueId The unique id of the profile
+     */
+    public synchronized void remove(UUID uniqueId) {
+        checkNotNull(uniqueId, "uniqueId");
+        final String key = this.names.remove(uniqueId);
+        if (key != null) {
+            removeName(key, uniqueId);
+        }
+    }
+
+    private void removeName(String key, UUID uniqueId) {
+        final Map<UUID, GameProfile> profiles = this.byName.get(key);
+        if (profiles != null) {
+            profiles.remove(uniqueId);
+            if (profiles.isEmpty()) {
+                this.byName.remove(key);
+            }
+        }
+    }
+
+    /**
+     * Gets the number of profiles in the index.
+     *
+     * @return The number of profiles
+     */
+    public int size() {
+        return this.names.size();
+    }
+
+    /**
+     * Gets all profiles whose names start with the given prefix
+     * (case-insensitive), sorted by their names.
+     *
+     * @param prefix The prefix
+     * @return The matching profiles
+     */
+    public Collection<GameProfile> match(String prefix) {
+        return match(prefix, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Gets at most {@code limit} profiles whose names start with the given
+     * prefix (case-insensitive), sorted by their names.
+     *
+     * @param prefix The prefix
+     * @param limit The maximum number of profiles
+     * @return The matching profiles
+     */
+    public Collection<GameProfile> match(String prefix, int limit) {
+        checkNotNull(prefix, "prefix");
+        checkArgument(limit >= 0, "limit must not be negative");
+        final String key = normalize(prefix);
+        final ImmutableList.Builder<GameProfile> builder = ImmutableList.builder();
+        int count = 0;
+        final NavigableMap<String, Map<UUID, GameProfile>> tail = this.byName.tailMap(key, true);
+        for (Map.Entry<String, Map<UUID, GameProfile>> entry : tail.entrySet()) {
+            if (!entry.getKey().startsWith(key)) {
+                break;
+            }
+            for (GameProfile profile : entry.getValue().values()) {
+                if (count++ == limit) {
+                    return builder.build();
+                }
+                builder.add(profile);
+            }
+        }
+        return builder.build();
+    }
+
+    private static String normalize(String name) {
+        return name.toLowerCase(Locale.ENGLISH);
+    }
+
+}
@@ -0,0 +1,80 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.service.user;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import com.google.common.collect.ImmutableList;
+import org.spongepowered.api.profile.GameProfile;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import javax.annotation.Nullable;
+
+/**
+ * A page of the {@link GameProfile}s with stored user data, ordered by their
+ * unique ids.
+ *
+ * @see UserStorageService#getPage(UUID, int)
+ */
+public final class ProfilePage {
+
+    private final List<GameProfile> profiles;
+    @Nullable private final UUID nextCursor;
+
+    /**
+     * Creates a new page.
+     *
+     * @param profiles The profiles of the page
+     * @param nextCursor The cursor of the next page, or null if this is the
+     *     last page
+     */
+    public ProfilePage(List<GameProfile> profiles, @Nullable UUID nextCursor) {
+        this.profiles = ImmutableList.copyOf(checkNotNull(profiles, "profiles"));
+        this.nextCursor = nextCursor;
+    }
+
+    /**
+     * Gets the profiles of this page.
+     *
+     * @return The profiles
+     */
+    public List<GameProfile> getProfiles() {
+        return this.profiles;
+    }
+
+    /**
+     * Gets the cursor to pass to {@link UserStorageService#getPage(UUID, int)}
+     * to get the next page, if there are more profiles.
+     *
+     * @return The cursor of the next page
+     */
+    public Optional<UUID> getNextCursor() {
+        return Optional.ofNullable(this.nextCursor);
+    }
+
+}
@@ -24,14 +24,23 @@
  */
 package org.spongepowered.api.service.user;
 
+import static com.google.common.base.Preconditions.checkArgument;
+
+import com.google.common.collect.Ordering;
 import org.spongepowered.api.entity.living.player.Player;
 import org.spongepowered.api.entity.living.player.User;
 import org.spongepowered.api.profile.GameProfile;
 import org.spongepowered.api.profile.GameProfileManager;
 
 import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import javax.annotation.Nullable;
 
 /**
  * Stores the persistent {@link User} data of a {@link Player}.
@@ -92,6 +101,46 @@ public interface UserStorageService {
      */
     Collection<GameProfile> getAll();
 
+    /**
+     * Gets a {@link Stream} of all {@link GameProfile}s with stored
+     * {@link User} data.
+     *
+     * <p>Implementations should load the profiles lazily while the stream
+     * is consumed, by default the stream is backed by {@link #getAll()}.</p>
+     *
+     * @return A {@link Stream} of {@link GameProfile}s
+     */
+    default Stream<GameProfile> streamAll() {
+        return getAll().stream();
+    }
+
+    /**
+     * Gets a page of the {@link GameProfile}s with stored {@link User} data,
+     * ordered by their unique ids. The first page is requested with a null
+     * cursor, following pages with the
+     * {@link ProfilePage#getNextCursor() cursor} of the previous page.
+     *
+     * <p>Profiles added or removed while paging may or may not be returned,
+     * but no profile is returned twice.</p>
+     *
+     * @param cursor The cursor of the page, or null for the first page
+     * @param limit The maximum number of profiles on the page
+     * @return The page
+     */
+    default ProfilePage getPage(@Nullable UUID cursor, int limit) {
+        checkArgument(limit > 0, "limit must be positive");
+        final Iterator<GameProfile> profiles = streamAll()
+                .filter(profile -> cursor == null || profile.getUniqueId().compareTo(cursor) > 0)
+                .iterator();
+        // Selects the page without sorting all profiles
+        final List<GameProfile> page = Ordering.natural().onResultOf(GameProfile::getUniqueId).leastOf(profiles, limit + 1);
+        if (page.size() <= limit) {
+            return new ProfilePage(page, null);
+        }
+        final List<GameProfile> result = page.subList(0, limit);
+        return new ProfilePage(result, result.get(limit - 1).getUniqueId());
+    }
+
     /**
      * Deletes the data associated with a {@link User}.
      *
@@ -124,4 +173,22 @@ public interface UserStorageService {
      * @return The result of the request
      */
     Collection<GameProfile> match(String lastKnownName);
+
+    /**
+     * Returns at most {@code limit} matching {@link GameProfile}s with stored
+     * {@link User} data whose last known user names start with the given
+     * string (case-insensitive), for example for tab completion.
+     *
+     * <p>Implementations should keep an index of the names, such as a
+     * {@link ProfileNameIndex}, by default this limits the result of
+     * {@link #match(String)}.</p>
+     *
+     * @param lastKnownName The user name
+     * @param limit The maximum number of profiles
+     * @return The result of the request
+     */
+    default Collection<GameProfile> match(String lastKnownName, int limit) {
+        checkArgument(limit >= 0, "limit must not be negative");
+        return match(lastKnownName).stream().limit(limit).collect(Collectors.toList());
+    }
 }
@@ -67,7 +67,7 @@ public Collection<MessageReceiver> getMembers() {
         PermissionService service = Sponge.getGame().getServiceManager().provideUnchecked(PermissionService.class);
 
         return service.getKnownSubjects().values().stream()
-                .flatMap(input -> input.getAllWithPermission(this.permission).entrySet().stream()
+                .flatMap(input -> input.getOnlineWithPermission(this.permission).entrySet().stream()
                         .filter(Map.Entry::getValue)
                         .map(entry -> entry.getKey().getCommandSource().orElse(null))
                         .filter(source -> source != null))
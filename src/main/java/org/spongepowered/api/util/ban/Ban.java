@@ -163,6 +163,21 @@ interface Ip extends Ban {
          */
         InetAddress getAddress();
 
+        /**
+         * Gets the number of leading bits of the {@link #getAddress()
+         * address} which an address must share to be covered by this ban,
+         * which allows a single ban to cover a range of addresses in CIDR
+         * notation.
+         *
+         * <p>By default, the full address is used and only that single
+         * address is banned.</p>
+         *
+         * @return The prefix length
+         */
+        default int getPrefixLength() {
+            return getAddress().getAddress().length * 8;
+        }
+
     }
 
     /**
@@ -190,6 +205,26 @@ interface Builder extends ResettableBuilder<Ban, Builder> {
          */
         Builder address(InetAddress address);
 
+        /**
+         * Sets the range of IP addresses to be banned, as an address and the
+         * number of its leading bits an address must share to be banned.
+         *
+         * <p>This can only be done if the {@link BanType} has been set to {@link BanTypes#IP}.</p>
+         *
+         * @param address The IP address
+         * @param prefixLength The prefix length
+         * @return This builder
+         * @throws UnsupportedOperationException If the implementation does
+         *     not support address ranges
+         * @see Ip#getPrefixLength()
+         */
+        default Builder address(InetAddress address, int prefixLength) {
+            if (prefixLength != address.getAddress().length * 8) {
+                throw new UnsupportedOperationException("Address ranges are not supported by this builder");
+            }
+            return address(address);
+        }
+
         /**
          * Sets the type of the ban.
          *
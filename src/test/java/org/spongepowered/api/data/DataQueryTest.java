@@ -141,6 +141,43 @@ public void testLast() {
         assertThat(lastExpected.equals(full.last()), is(true));
     }
 
+    /**
+     * Method: of(char separator, String path) with empty parts
+     */
+    @Test
+    public void testOfForSeparatorPathEmptyParts() {
+        assertThat(DataQuery.of('.', "a..b").getParts(), is(ImmutableList.of("a", "", "b")));
+        assertThat(DataQuery.of('.', ".a").getParts(), is(ImmutableList.of("", "a")));
+        assertThat(DataQuery.of('.', "a.b..").getParts(), is(ImmutableList.of("a", "b")));
+        assertThat(DataQuery.of('.', "").getParts(), is(ImmutableList.of("")));
+    }
+
+    /**
+     * Method: popFirst()
+     */
+    @Test
+    public void testPopFirst() {
+        DataQuery prePopped = DataQuery.of("this", "test", "query");
+        DataQuery expected = DataQuery.of("test", "query");
+        assertThat(prePopped.popFirst().equals(expected), is(true));
+        assertThat(prePopped.popFirst() == prePopped.popFirst(), is(true));
+        assertThat(prePopped.pop() == prePopped.pop(), is(true));
+        assertThat(DataQuery.of("single").popFirst().equals(DataQuery.of()), is(true));
+    }
+
+    /**
+     * Method: intern()
+     */
+    @Test
+    public void testIntern() {
+        DataQuery first = DataQuery.of("interned", "query").intern();
+        DataQuery second = DataQuery.of('.', "interned.query").intern();
+        assertThat(first == second, is(true));
+        assertThat(first.equals(DataQuery.of("interned", "query")), is(true));
+        assertThat(first.equals(DataQuery.of("interned", "other").intern()), is(false));
+        assertThat(first.hashCode() == DataQuery.of("interned", "query").hashCode(), is(true));
+    }
+
     /**
      * Method: equals(Object obj)
      */
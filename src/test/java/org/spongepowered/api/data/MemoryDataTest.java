@@ -194,6 +194,45 @@ public void testNumberedLists() {
 
     }
 
+    @Test
+    public void testPrimitiveArrays() {
+        DataContainer container = DataContainer.createNew();
+        DataQuery testQuery = of("foo", "bar");
+        int[] ints = {1, 2, 3, 4};
+        container.set(testQuery, ints);
+        assertTrue(Arrays.equals(ints, container.getIntArray(testQuery).get()));
+        assertTrue(Arrays.equals(new long[] {1, 2, 3, 4}, container.getLongArray(testQuery).get()));
+        assertTrue(container.getIntStream(testQuery).get().sum() == 10);
+        assertTrue(container.getIntegerList(testQuery).get().equals(ImmutableList.of(1, 2, 3, 4)));
+        assertTrue(container.get(testQuery).get() instanceof int[]);
+
+        container.set(testQuery, ImmutableList.of(1.5D, 2.5D));
+        assertTrue(Arrays.equals(new double[] {1.5D, 2.5D}, container.getDoubleArray(testQuery).get()));
+        assertTrue(container.getDoubleStream(testQuery).get().sum() == 4.0D);
+
+        container.set(testQuery, "foo");
+        assertTrue(!container.getIntArray(testQuery).isPresent());
+        assertTrue(!container.getLongStream(testQuery).isPresent());
+    }
+
+    @Test
+    public void testPrimitiveArrayDefaults() {
+        // Views not extending the API implementations use the defaults
+        final DataView view = mock(DataView.class, Mockito.CALLS_REAL_METHODS);
+        final DataQuery testQuery = of("foo");
+        Mockito.doReturn(Optional.of(new short[] {1, 2, 3})).when(view).get(testQuery);
+        assertTrue(Arrays.equals(new int[] {1, 2, 3}, view.getIntArray(testQuery).get()));
+        assertTrue(view.getIntStream(testQuery).get().sum() == 6);
+
+        Mockito.doReturn(Optional.of(ImmutableList.of(1, 2L))).when(view).get(testQuery);
+        assertTrue(Arrays.equals(new long[] {1, 2}, view.getLongArray(testQuery).get()));
+        assertTrue(view.getDoubleStream(testQuery).get().sum() == 3.0D);
+
+        Mockito.doReturn(Optional.empty()).when(view).get(testQuery);
+        assertTrue(!view.getDoubleArray(testQuery).isPresent());
+        assertTrue(!view.getLongStream(testQuery).isPresent());
+    }
+
     @Test
     public void testLists() {
         DataContainer container = DataContainer.createNew();
@@ -376,6 +415,28 @@ public void testCopy() {
         assertTrue(internal.equals(internalCopy));
     }
 
+    @Test
+    public void testDeepPaths() {
+        final DataContainer container = DataContainer.createNew();
+        final DataQuery deep = of("a", "b", "c", "d", "e", "f", "g", "h");
+        assertTrue(!container.contains(deep));
+        container.set(deep, "deep");
+        assertTrue(container.contains(deep));
+        assertTrue(container.getString(deep).get().equals("deep"));
+        assertTrue(container.getView(deep.pop()).get().getString(of("h")).get().equals("deep"));
+        assertTrue(container.getView(deep.pop()).get().getCurrentPath().equals(deep.pop()));
+        assertTrue(!container.get(deep.then("i")).isPresent());
+
+        container.set(of("a", "b", "x"), "plain");
+        assertTrue(!container.contains(of("a", "b", "x", "y")));
+        container.set(of("a", "b", "x", "y"), "replaced");
+        assertTrue(container.getString(of("a", "b", "x", "y")).get().equals("replaced"));
+
+        container.remove(deep);
+        assertTrue(!container.contains(deep));
+        assertTrue(container.contains(deep.pop()));
+    }
+
     @Test
     public void testTest() {
 
@@ -0,0 +1,158 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.data;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.AdditionalMatchers.aryEq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.spongepowered.api.data.DataQuery.of;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import org.junit.Test;
+import org.spongepowered.api.data.persistence.DataViewWriter;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+
+public class SharedDataTest {
+
+    @Test
+    public void testSetAndGet() {
+        final DataContainer container = new SharedDataContainer();
+        container.set(of("foo", "bar"), "baz");
+        assertTrue(container.contains(of("foo", "bar")));
+        assertTrue(container.getString(of("foo", "bar")).get().equals("baz"));
+        assertTrue(container.getView(of("foo")).get().getString(of("bar")).get().equals("baz"));
+        assertFalse(container.contains(of("foo", "baz")));
+    }
+
+    @Test
+    public void testCopyIsIsolated() {
+        final DataContainer container = new SharedDataContainer();
+        container.set(of("shared", "value"), 1);
+        container.set(of("other", "value"), 2);
+        final DataContainer copy = container.copy();
+        assertTrue(copy.equals(container));
+
+        copy.set(of("shared", "value"), 3);
+        assertTrue(container.getInt(of("shared", "value")).get() == 1);
+        assertTrue(copy.getInt(of("shared", "value")).get() == 3);
+
+        container.remove(of("other"));
+        assertFalse(container.contains(of("other", "value")));
+        assertTrue(copy.getInt(of("other", "value")).get() == 2);
+    }
+
+    @Test
+    public void testViewsFollowContainer() {
+        final DataContainer container = new SharedDataContainer();
+        final DataView view = container.createView(of("a", "b"));
+        view.set(of("c"), "d");
+        assertTrue(container.getString(of("a", "b", "c")).get().equals("d"));
+        assertTrue(view.getCurrentPath().equals(of("a", "b")));
+        assertTrue(view.getParent().get().getCurrentPath().equals(of("a")));
+        assertTrue(view.getContainer() == container);
+
+        final DataContainer copy = view.copy();
+        view.set(of("c"), "e");
+        assertTrue(copy.getString(of("c")).get().equals("d"));
+        assertTrue(container.getString(of("a", "b", "c")).get().equals("e"));
+    }
+
+    @Test
+    public void testArraysAreCloned() {
+        final DataContainer container = new SharedDataContainer();
+        final int[] array = {1, 2, 3};
+        container.set(of("array"), array);
+        array[0] = 4;
+        final int[] stored = (int[]) container.get(of("array")).get();
+        assertTrue(stored[0] == 1);
+        stored[1] = 5;
+        assertTrue(((int[]) container.get(of("array")).get())[1] == 2);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testNestedArraysAreCloned() {
+        final DataContainer container = new SharedDataContainer();
+        final int[] array = {1, 2, 3};
+        container.set(of("list"), ImmutableList.of(array));
+        container.set(of("maps"), ImmutableList.of(ImmutableMap.of("array", array)));
+        array[0] = 4;
+
+        final DataContainer copy = container.copy();
+        final int[] stored = (int[]) ((List<Object>) container.get(of("list")).get()).get(0);
+        assertTrue(stored[0] == 1);
+        stored[1] = 5;
+        assertTrue(((int[]) ((List<Object>) container.get(of("list")).get()).get(0))[1] == 2);
+        assertTrue(((int[]) ((List<Object>) copy.get(of("list")).get()).get(0))[1] == 2);
+
+        final int[] mapped = (int[]) ((List<Map<Object, Object>>) container.get(of("maps")).get()).get(0).get("array");
+        assertTrue(mapped[0] == 1);
+        mapped[1] = 5;
+        assertTrue(((int[]) ((List<Map<Object, Object>>) copy.get(of("maps")).get()).get(0).get("array"))[1] == 2);
+    }
+
+    @Test
+    public void testViewLists() {
+        final DataContainer container = new SharedDataContainer();
+        final DataContainer element = new SharedDataContainer().set(of("name"), "element");
+        container.set(of("list"), ImmutableList.of(element));
+        final List<DataView> views = container.getViewList(of("list")).get();
+        assertTrue(views.size() == 1);
+        assertTrue(views.get(0).getString(of("name")).get().equals("element"));
+
+        views.get(0).set(of("name"), "changed");
+        assertTrue(container.getViewList(of("list")).get().get(0).getString(of("name")).get().equals("element"));
+    }
+
+    @Test
+    public void testKeys() {
+        final DataContainer container = new SharedDataContainer();
+        container.set(of("a"), 1);
+        container.set(of("b", "c"), 2);
+        assertTrue(container.getKeys(false).size() == 2);
+        assertTrue(container.getKeys(true).size() == 3);
+        assertTrue(container.getKeys(true).contains(of("b", "c")));
+    }
+
+    @Test
+    public void testWritesPrimitiveArrays() throws IOException {
+        final SharedDataContainer container = new SharedDataContainer();
+        container.set(of("ints"), new int[] {1, 2});
+        container.set(of("longs"), new long[] {3L});
+        container.set(of("doubles"), new double[] {4.0});
+        final DataViewWriter writer = mock(DataViewWriter.class);
+        container.writeTo(writer);
+        verify(writer).value(aryEq(new int[] {1, 2}));
+        verify(writer).value(aryEq(new long[] {3L}));
+        verify(writer).value(aryEq(new double[] {4.0}));
+    }
+
+}
@@ -0,0 +1,103 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.data.persistence;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.spongepowered.api.data.DataQuery.of;
+
+import com.google.common.collect.ImmutableList;
+import org.junit.Test;
+import org.spongepowered.api.data.DataContainer;
+import org.spongepowered.api.data.DataView;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+public class DataContentUpdaterChainTest {
+
+    private static DataContentUpdater updater(int from, int to) {
+        return new DataContentUpdater() {
+            @Override
+            public int getInputVersion() {
+                return from;
+            }
+
+            @Override
+            public int getOutputVersion() {
+                return to;
+            }
+
+            @Override
+            public DataView update(DataView content) {
+                return content.set(of("Version"), to);
+            }
+        };
+    }
+
+    @Test
+    public void testShortestChain() {
+        final DataContentUpdater oneToTwo = updater(1, 2);
+        final DataContentUpdater twoToThree = updater(2, 3);
+        final DataContentUpdater oneToThree = updater(1, 3);
+        final DataContentUpdater threeToFour = updater(3, 4);
+        final Optional<DataContentUpdaterChain> chain = DataContentUpdaterChain.resolve(
+                ImmutableList.of(oneToTwo, twoToThree, oneToThree, threeToFour), 1, 4);
+        assertTrue(chain.isPresent());
+        assertEquals(ImmutableList.of(oneToThree, threeToFour), chain.get().getUpdaters());
+        assertEquals(1, chain.get().getInputVersion());
+        assertEquals(4, chain.get().getOutputVersion());
+    }
+
+    @Test
+    public void testMissingHop() {
+        assertFalse(DataContentUpdaterChain.resolve(ImmutableList.of(updater(1, 2), updater(3, 4)), 1, 4).isPresent());
+    }
+
+    @Test
+    public void testIdentity() {
+        final DataContentUpdaterChain chain = DataContentUpdaterChain.resolve(ImmutableList.of(updater(1, 2)), 2, 2).get();
+        assertTrue(chain.getUpdaters().isEmpty());
+    }
+
+    @Test
+    public void testUpdateAll() {
+        final DataContentUpdaterChain chain = DataContentUpdaterChain.resolve(ImmutableList.of(updater(1, 2), updater(2, 3)), 1, 3).get();
+        final List<DataView> updated = chain.updateAll(IntStream.range(0, 100).mapToObj(i -> DataContainer.createNew()))
+                .collect(Collectors.toList());
+        assertEquals(100, updated.size());
+        for (DataView view : updated) {
+            assertEquals(3, (int) view.getInt(of("Version")).get());
+        }
+        assertEquals(100, chain.getUpdatedCount(0));
+        assertEquals(100, chain.getUpdatedCount(1));
+        chain.resetUpdatedCounts();
+        assertEquals(0, chain.getUpdatedCount(0));
+    }
+
+}
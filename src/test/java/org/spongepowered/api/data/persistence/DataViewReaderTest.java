@@ -0,0 +1,219 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.data.persistence;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.spongepowered.api.data.DataQuery.of;
+
+import com.google.common.collect.ImmutableList;
+import org.junit.Test;
+import org.spongepowered.api.data.DataContainer;
+import org.spongepowered.api.data.DataView;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+public class DataViewReaderTest {
+
+    private static DataContainer createData() {
+        return DataContainer.createNew()
+                .set(of("Name"), "test")
+                .set(of("Skipped", "Deep", "Value"), 1)
+                .set(of("Skipped", "List"), ImmutableList.of(1, 2, 3))
+                .set(of("Target", "Value"), 42);
+    }
+
+    @Test
+    public void testRoundTrip() throws IOException {
+        final TokenWriter stream = new TokenWriter();
+        final DataContainer data = createData();
+        stream.writeView(data);
+        final DataView read = stream.reader().readView();
+        assertEquals("test", read.getString(of("Name")).get());
+        assertEquals(1, (int) read.getInt(of("Skipped", "Deep", "Value")).get());
+        assertEquals(ImmutableList.of(1, 2, 3), read.getIntegerList(of("Skipped", "List")).get());
+        assertEquals(42, (int) read.getInt(of("Target", "Value")).get());
+    }
+
+    @Test
+    public void testSeek() throws IOException {
+        final TokenWriter stream = new TokenWriter();
+        stream.writeView(createData());
+        final TokenReader reader = stream.reader();
+        reader.beginView();
+        assertTrue(reader.seek(of("Target", "Value")));
+        assertEquals(42, reader.nextInt());
+        assertFalse(reader.hasNext());
+    }
+
+    @Test
+    public void testSeekMissing() throws IOException {
+        final TokenWriter stream = new TokenWriter();
+        stream.writeView(createData());
+        final TokenReader reader = stream.reader();
+        reader.beginView();
+        assertFalse(reader.seek(of("Missing")));
+        assertEquals(DataViewReader.Token.END_VIEW, reader.peek());
+    }
+
+    @Test
+    public void testSkipValue() throws IOException {
+        final TokenWriter stream = new TokenWriter();
+        stream.writeView(createData());
+        final TokenReader reader = stream.reader();
+        reader.beginView();
+        reader.skipValue();
+        reader.skipValue();
+        assertEquals("Target", reader.nextKey());
+    }
+
+    /**
+     * A writer storing the tokens in memory.
+     */
+    private static final class TokenWriter implements DataViewWriter {
+
+        final List<DataViewReader.Token> tokens = new ArrayList<>();
+        final List<Object> values = new ArrayList<>();
+
+        TokenReader reader() {
+            return new TokenReader(this.tokens, this.values);
+        }
+
+        private DataViewWriter write(DataViewReader.Token token, Object value) {
+            this.tokens.add(token);
+            this.values.add(value);
+            return this;
+        }
+
+        @Override
+        public DataViewWriter beginView() {
+            return write(DataViewReader.Token.BEGIN_VIEW, "");
+        }
+
+        @Override
+        public DataViewWriter endView() {
+            return write(DataViewReader.Token.END_VIEW, "");
+        }
+
+        @Override
+        public DataViewWriter beginList() {
+            return write(DataViewReader.Token.BEGIN_LIST, "");
+        }
+
+        @Override
+        public DataViewWriter endList() {
+            return write(DataViewReader.Token.END_LIST, "");
+        }
+
+        @Override
+        public DataViewWriter key(String key) {
+            return write(DataViewReader.Token.KEY, key);
+        }
+
+        @Override
+        public DataViewWriter value(Object value) {
+            return write(DataViewReader.Token.VALUE, value);
+        }
+
+        @Override
+        public void flush() {
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+
+    /**
+     * A reader replaying the tokens of a {@link TokenWriter}.
+     */
+    private static final class TokenReader implements DataViewReader {
+
+        private final List<Token> tokens;
+        private final List<Object> values;
+        private int index;
+
+        TokenReader(List<Token> tokens, List<Object> values) {
+            this.tokens = tokens;
+            this.values = values;
+        }
+
+        private Object read(Token token) {
+            if (peek() != token) {
+                throw new InvalidDataException("Expected " + token + " but got " + peek());
+            }
+            return this.values.get(this.index++);
+        }
+
+        @Override
+        public Token peek() {
+            return this.index < this.tokens.size() ? this.tokens.get(this.index) : Token.END_DOCUMENT;
+        }
+
+        @Override
+        public boolean hasNext() {
+            final Token token = peek();
+            return token != Token.END_VIEW && token != Token.END_LIST && token != Token.END_DOCUMENT;
+        }
+
+        @Override
+        public void beginView() {
+            read(Token.BEGIN_VIEW);
+        }
+
+        @Override
+        public void endView() {
+            read(Token.END_VIEW);
+        }
+
+        @Override
+        public void beginList() {
+            read(Token.BEGIN_LIST);
+        }
+
+        @Override
+        public void endList() {
+            read(Token.END_LIST);
+        }
+
+        @Override
+        public String nextKey() {
+            return (String) read(Token.KEY);
+        }
+
+        @Override
+        public Object nextValue() {
+            return read(Token.VALUE);
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+
+}
@@ -0,0 +1,407 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.data.persistence;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.fail;
+import static org.spongepowered.api.data.DataQuery.of;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.io.ByteStreams;
+import org.junit.Test;
+import org.spongepowered.api.data.DataContainer;
+import org.spongepowered.api.data.DataView;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Optional;
+
+public class StreamingDataFormatTest {
+
+    private static DataContainer createData() {
+        return DataContainer.createNew()
+                .set(of("Name"), "test")
+                .set(of("Nested", "Deep", "Value"), 1)
+                .set(of("List"), ImmutableList.of(1, 2, 3));
+    }
+
+    private static byte[] encode(StreamingDataFormat format, DataView data) throws IOException {
+        final ByteArrayOutputStream output = new ByteArrayOutputStream();
+        format.writeTo(output, data);
+        return output.toByteArray();
+    }
+
+    @Test
+    public void testNestedViewStaysEncoded() throws IOException {
+        final TestFormat format = new TestFormat();
+        final DataContainer container = format.readLazily(ByteBuffer.wrap(encode(format, createData())));
+        assertEquals(0, format.decoded);
+
+        assertEquals("test", container.getString(of("Name")).get());
+        assertEquals(1, format.decoded);
+
+        assertEquals(1, (int) container.getInt(of("Nested", "Deep", "Value")).get());
+        assertEquals(3, format.decoded);
+
+        assertEquals(ImmutableList.of(1, 2, 3), container.getIntegerList(of("List")).get());
+        assertEquals(4, format.decoded);
+
+        // Decoded regions are kept
+        container.getInt(of("Nested", "Deep", "Value"));
+        assertEquals(4, format.decoded);
+    }
+
+    @Test
+    public void testUntouchedDataIsCopied() throws IOException {
+        final TestFormat format = new TestFormat();
+        final byte[] bytes = encode(format, createData());
+        final DataContainer container = format.readLazily(ByteBuffer.wrap(bytes));
+        assertArrayEquals(bytes, encode(format, container));
+        assertEquals(0, format.decoded);
+    }
+
+    @Test
+    public void testUntouchedViewIsCopied() throws IOException {
+        final TestFormat format = new TestFormat();
+        final DataContainer container = format.readLazily(ByteBuffer.wrap(encode(format, createData())));
+        container.set(of("Name"), "other");
+        assertEquals(1, format.decoded);
+
+        final byte[] written = encode(format, container);
+        assertEquals(1, format.decoded);
+        assertArrayEquals(encode(format, createData().set(of("Name"), "other")), written);
+    }
+
+    @Test
+    public void testCorruptViewFailsOnAccess() throws IOException {
+        final TestFormat format = new TestFormat();
+        final byte[] bytes = encode(format, DataContainer.createNew()
+                .set(of("Name"), "test")
+                .set(of("Nested", "Value"), 1));
+        // Replace the type of the nested value with an unknown one
+        bytes[bytes.length - 7] = 'X';
+        final DataContainer container = format.readLazily(ByteBuffer.wrap(bytes));
+
+        assertEquals("test", container.getString(of("Name")).get());
+        try {
+            container.getInt(of("Nested", "Value"));
+            fail();
+        } catch (InvalidDataException e) {
+            assertEquals(IOException.class, e.getCause().getClass());
+        }
+    }
+
+    @Test
+    public void testTruncatedDataFailsOnAccess() throws IOException {
+        final TestFormat format = new TestFormat();
+        final byte[] bytes = encode(format, createData());
+        final DataContainer container = format.readLazily(ByteBuffer.wrap(bytes, 0, bytes.length / 2));
+        try {
+            container.getString(of("Name"));
+            fail();
+        } catch (InvalidDataException e) {
+            assertEquals(EOFException.class, e.getCause().getClass());
+        }
+    }
+
+    /**
+     * A binary format prefixing views and lists with their length, which
+     * lets the reader hand them out encoded without reading their contents.
+     *
+     * <p>Views are encoded as {@code 'V' length entries 'v'} and lists as
+     * {@code 'L' length values 'l'}, where the length is the number of
+     * bytes in between. Entries are a {@code 'K'} followed by the key and
+     * the value. Values are an {@code 'I'} followed by an int, or an
+     * {@code 'S'} followed by a string.</p>
+     */
+    private static final class TestFormat implements StreamingDataFormat {
+
+        /**
+         * The number of readers created to decode data.
+         */
+        int decoded;
+
+        @Override
+        public String getId() {
+            return "test";
+        }
+
+        @Override
+        public String getName() {
+            return "Test";
+        }
+
+        @Override
+        public DataContainer readFrom(InputStream input) throws IOException {
+            return createReader(input).readView();
+        }
+
+        @Override
+        public DataViewReader createReader(InputStream input) throws IOException {
+            return createReader(ByteBuffer.wrap(ByteStreams.toByteArray(input)));
+        }
+
+        @Override
+        public DataViewReader createReader(ByteBuffer buffer) {
+            this.decoded++;
+            return new Reader(buffer.slice());
+        }
+
+        @Override
+        public DataViewWriter createWriter(OutputStream output) {
+            return new Writer(this, output);
+        }
+    }
+
+    private static final class Reader implements DataViewReader {
+
+        private final ByteBuffer buffer;
+
+        Reader(ByteBuffer buffer) {
+            this.buffer = buffer;
+        }
+
+        @Override
+        public Token peek() throws IOException {
+            if (!this.buffer.hasRemaining()) {
+                return Token.END_DOCUMENT;
+            }
+            switch (this.buffer.get(this.buffer.position())) {
+                case 'V':
+                    return Token.BEGIN_VIEW;
+                case 'v':
+                    return Token.END_VIEW;
+                case 'L':
+                    return Token.BEGIN_LIST;
+                case 'l':
+                    return Token.END_LIST;
+                case 'K':
+                    return Token.KEY;
+                case 'I':
+                case 'S':
+                    return Token.VALUE;
+                default:
+                    throw new IOException("Unknown type at " + this.buffer.position());
+            }
+        }
+
+        @Override
+        public boolean hasNext() throws IOException {
+            final Token token = peek();
+            return token != Token.END_VIEW && token != Token.END_LIST && token != Token.END_DOCUMENT;
+        }
+
+        private void expect(Token token) throws IOException {
+            if (peek() != token) {
+                throw new InvalidDataException("Expected " + token + " but got " + peek());
+            }
+            this.buffer.get();
+        }
+
+        private int readInt() throws IOException {
+            try {
+                return this.buffer.getInt();
+            } catch (BufferUnderflowException e) {
+                throw new EOFException();
+            }
+        }
+
+        private String readString() throws IOException {
+            final int length = readInt();
+            if (length > this.buffer.remaining()) {
+                throw new EOFException();
+            }
+            final byte[] bytes = new byte[length];
+            this.buffer.get(bytes);
+            return new String(bytes, StandardCharsets.UTF_8);
+        }
+
+        @Override
+        public void beginView() throws IOException {
+            expect(Token.BEGIN_VIEW);
+            readInt();
+        }
+
+        @Override
+        public void endView() throws IOException {
+            expect(Token.END_VIEW);
+        }
+
+        @Override
+        public void beginList() throws IOException {
+            expect(Token.BEGIN_LIST);
+            readInt();
+        }
+
+        @Override
+        public void endList() throws IOException {
+            expect(Token.END_LIST);
+        }
+
+        @Override
+        public String nextKey() throws IOException {
+            expect(Token.KEY);
+            return readString();
+        }
+
+        @Override
+        public Object nextValue() throws IOException {
+            final byte type = this.buffer.get(this.buffer.position());
+            expect(Token.VALUE);
+            return type == 'I' ? (Object) readInt() : readString();
+        }
+
+        @Override
+        public Optional<ByteBuffer> nextEncoded() throws IOException {
+            final Token token = peek();
+            if (token != Token.BEGIN_VIEW && token != Token.BEGIN_LIST) {
+                throw new InvalidDataException("Expected a view or list but got " + token);
+            }
+            final int start = this.buffer.position();
+            final int length = this.buffer.getInt(start + 1) + 6;
+            if (length > this.buffer.remaining()) {
+                throw new EOFException();
+            }
+            final ByteBuffer encoded = this.buffer.duplicate();
+            encoded.limit(start + length);
+            this.buffer.position(start + length);
+            return Optional.of(encoded.slice());
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+
+    private static final class Writer implements DataViewWriter {
+
+        private final TestFormat format;
+        private final OutputStream output;
+        private final Deque<ByteArrayOutputStream> open = new ArrayDeque<>();
+        private DataOutputStream current;
+
+        Writer(TestFormat format, OutputStream output) {
+            this.format = format;
+            this.output = output;
+            this.current = new DataOutputStream(output);
+        }
+
+        private DataViewWriter begin() {
+            final ByteArrayOutputStream body = new ByteArrayOutputStream();
+            this.open.push(body);
+            this.current = new DataOutputStream(body);
+            return this;
+        }
+
+        private DataViewWriter end(char begin, char end) throws IOException {
+            final byte[] body = this.open.pop().toByteArray();
+            this.current = new DataOutputStream(this.open.isEmpty() ? this.output : this.open.peek());
+            this.current.writeByte(begin);
+            this.current.writeInt(body.length);
+            this.current.write(body);
+            this.current.writeByte(end);
+            return this;
+        }
+
+        private void writeString(String value) throws IOException {
+            final byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+            this.current.writeInt(bytes.length);
+            this.current.write(bytes);
+        }
+
+        @Override
+        public DataViewWriter beginView() {
+            return begin();
+        }
+
+        @Override
+        public DataViewWriter endView() throws IOException {
+            return end('V', 'v');
+        }
+
+        @Override
+        public DataViewWriter beginList() {
+            return begin();
+        }
+
+        @Override
+        public DataViewWriter endList() throws IOException {
+            return end('L', 'l');
+        }
+
+        @Override
+        public DataViewWriter key(String key) throws IOException {
+            this.current.writeByte('K');
+            writeString(key);
+            return this;
+        }
+
+        @Override
+        public DataViewWriter value(Object value) throws IOException {
+            if (value instanceof Integer) {
+                this.current.writeByte('I');
+                this.current.writeInt((Integer) value);
+            } else if (value instanceof String) {
+                this.current.writeByte('S');
+                writeString((String) value);
+            } else {
+                throw new IllegalArgumentException("Unsupported value: " + value);
+            }
+            return this;
+        }
+
+        @Override
+        public boolean writeEncoded(StreamingDataFormat format, ByteBuffer encoded) throws IOException {
+            if (format != this.format) {
+                return false;
+            }
+            final byte[] bytes = new byte[encoded.remaining()];
+            encoded.get(bytes);
+            this.current.write(bytes);
+            return true;
+        }
+
+        @Override
+        public void flush() throws IOException {
+            this.output.flush();
+        }
+
+        @Override
+        public void close() throws IOException {
+            this.output.close();
+        }
+    }
+
+}
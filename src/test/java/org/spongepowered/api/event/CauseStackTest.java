@@ -0,0 +1,100 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.event;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import com.google.common.collect.ImmutableList;
+import org.junit.Test;
+import org.spongepowered.api.event.cause.Cause;
+import org.spongepowered.api.event.cause.CauseStack;
+import org.spongepowered.api.event.cause.NamedCause;
+
+import java.util.NoSuchElementException;
+
+public class CauseStackTest {
+
+    @Test
+    public void testCauseIsCached() {
+        final CauseStack stack = new CauseStack();
+        stack.pushCause("world");
+        final Cause cause = stack.getCurrentCause();
+        assertSame(cause, stack.getCurrentCause());
+        stack.pushCause("block");
+        assertEquals(ImmutableList.of("block", "world"), stack.getCurrentCause().all());
+        stack.popCause();
+        assertEquals(cause, stack.getCurrentCause());
+    }
+
+    @Test
+    public void testNames() {
+        final CauseStack stack = new CauseStack();
+        stack.pushCause("world");
+        stack.pushCause(NamedCause.OWNER, "owner");
+        stack.pushCause("block");
+        final Cause cause = stack.getCurrentCause();
+        assertEquals("block", cause.get(NamedCause.SOURCE, String.class).get());
+        assertEquals("world", cause.get(NamedCause.SOURCE + 1, String.class).get());
+        assertEquals("owner", cause.get(NamedCause.OWNER, String.class).get());
+    }
+
+    @Test
+    public void testFrames() {
+        final CauseStack stack = new CauseStack();
+        stack.pushCause("world");
+        final CauseStack.Frame frame = stack.pushFrame();
+        stack.pushCause("block");
+        stack.pushCause("entity");
+        assertEquals(3, stack.getCurrentCause().all().size());
+        frame.close();
+        assertEquals(ImmutableList.of("world"), stack.getCurrentCause().all());
+    }
+
+    @Test(expected = NoSuchElementException.class)
+    public void testPopOutsideFrame() {
+        final CauseStack stack = new CauseStack();
+        stack.pushCause("world");
+        stack.pushFrame();
+        stack.popCause();
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void testFrameOrder() {
+        final CauseStack stack = new CauseStack();
+        final CauseStack.Frame outer = stack.pushFrame();
+        stack.pushFrame();
+        outer.close();
+    }
+
+    @Test
+    public void testEmpty() {
+        final CauseStack stack = new CauseStack();
+        assertTrue(stack.isEmpty());
+        assertTrue(!stack.peekCause().isPresent());
+    }
+
+}
@@ -220,5 +220,41 @@ public void testListedArray() {
         assertThat(stringList.equals(fooList), is(true));
     }
 
+    @Test
+    public void testTypeLookups() {
+        final Cause cause = Cause.source(1)
+                .named("first", "foo")
+                .named("second", 2L)
+                .named("third", "bar")
+                .build();
+        for (int i = 0; i < 2; i++) {
+            // The second iteration is answered by the index
+            assertThat(cause.first(String.class), is(Optional.of("foo")));
+            assertThat(cause.last(String.class), is(Optional.of("bar")));
+            assertThat(cause.first(Number.class), is(Optional.of(1)));
+            assertThat(cause.last(Number.class), is(Optional.of(2L)));
+            assertThat(cause.allOf(String.class), equalTo(ImmutableList.of("foo", "bar")));
+            assertThat(cause.containsType(Double.class), is(false));
+            assertThat(cause.before(String.class), is(Optional.of(1)));
+            assertThat(cause.after(Long.class), is(Optional.of("bar")));
+        }
+    }
+
+    @Test
+    public void testNameLookupsIgnoreCase() {
+        final Cause cause = Cause.source("source")
+                .named("Owner", "owner")
+                .named("Other", 3)
+                .build();
+        assertThat(cause.get("owner", String.class), is(Optional.of("owner")));
+        assertThat(cause.get("OTHER", Integer.class), is(Optional.of(3)));
+        assertThat(cause.get("other", String.class), is(Optional.empty()));
+        assertThat(cause.containsNamed("oWnEr"), is(true));
+        assertThat(cause.containsNamed("missing"), is(false));
+        assertThat(cause.before("other"), is(Optional.of("owner")));
+        assertThat(cause.after("OWNER"), is(Optional.of(3)));
+        assertThat(cause.before(NamedCause.SOURCE), is(Optional.empty()));
+    }
+
 
 }
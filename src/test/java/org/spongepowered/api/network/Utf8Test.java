@@ -0,0 +1,120 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.network;
+
+import static org.junit.Assert.assertEquals;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import org.junit.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+public class Utf8Test {
+
+    private static ChannelBuf buffer(byte[] bytes) {
+        final ChannelBuf buf = mock(ChannelBuf.class);
+        when(buf.getByte(anyInt())).then(invocation -> bytes[(int) invocation.getArgument(0)]);
+        return buf;
+    }
+
+    private static String decode(byte[] bytes) {
+        final StringBuilder sink = new StringBuilder();
+        Utf8.decode(buffer(bytes), 0, bytes.length, sink);
+        return sink.toString();
+    }
+
+    private static byte[] bytes(int... values) {
+        final byte[] bytes = new byte[values.length];
+        for (int i = 0; i < values.length; i++) {
+            bytes[i] = (byte) values[i];
+        }
+        return bytes;
+    }
+
+    private static void assertDecodes(String expected) {
+        assertEquals(expected, decode(expected.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    @Test
+    public void testAscii() {
+        assertDecodes("");
+        assertDecodes("Hello, World!");
+    }
+
+    @Test
+    public void testMultiByteSequences() {
+        assertDecodes("\u00e9\u00df");
+        assertDecodes("\u20ac\u4e2d\uffff");
+        assertDecodes("\ud83d\ude00");
+        assertDecodes("a\u00e9\u20ac\ud83d\ude00z");
+    }
+
+    @Test
+    public void testModifiedUtf8() throws IOException {
+        assertEquals("\0", decode(bytes(0xc0, 0x80)));
+
+        final String string = "a\0\u00e9\u20ac\ud83d\ude00";
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        new DataOutputStream(bytes).writeUTF(string);
+        final byte[] encoded = bytes.toByteArray();
+        final StringBuilder sink = new StringBuilder();
+        Utf8.decode(buffer(encoded), 2, encoded.length - 2, sink);
+        assertEquals(string, sink.toString());
+    }
+
+    @Test
+    public void testMalformed() {
+        assertEquals("\ufffd", decode(bytes(0x80)));
+        assertEquals("\ufffd", decode(bytes(0xff)));
+        assertEquals("\ufffdA", decode(bytes(0xc3, 0x41)));
+        assertEquals("\ufffd", decode(bytes(0xf7, 0xbf, 0xbf, 0xbf)));
+    }
+
+    @Test
+    public void testTruncated() {
+        assertEquals("a\ufffd", decode(bytes(0x61, 0xc3)));
+        assertEquals("\ufffd", decode(bytes(0xe2, 0x82)));
+        assertEquals("\ufffd", decode(bytes(0xf0, 0x9f, 0x98)));
+
+        // The range ends in the middle of the sequence
+        final StringBuilder sink = new StringBuilder();
+        Utf8.decode(buffer(bytes(0xe2, 0x82, 0xac)), 0, 2, sink);
+        assertEquals("\ufffd", sink.toString());
+    }
+
+    @Test
+    public void testAppendsToSink() {
+        final byte[] bytes = bytes(0x78, 0x61, 0xc3, 0xa9, 0x78);
+        final StringBuilder sink = new StringBuilder("prefix:");
+        Utf8.decode(buffer(bytes), 1, 3, sink);
+        assertEquals("prefix:a\u00e9", sink.toString());
+    }
+
+}
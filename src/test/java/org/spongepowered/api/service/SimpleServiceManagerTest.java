@@ -25,6 +25,8 @@
 package org.spongepowered.api.service;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
@@ -90,6 +92,29 @@ public void testGetProviderRegistration() {
         assertEquals(this.testPluginContainer, registration.getPlugin());
     }
 
+    @Test
+    public void testServiceReference() {
+        SimpleServiceManager serviceManager = new SimpleServiceManager(this.manager);
+        ServiceReference<TestInterface> reference = serviceManager.getReference(TestInterface.class);
+        assertEquals(TestInterface.class, reference.getService());
+        assertFalse(reference.get().isPresent());
+        assertFalse(serviceManager.isRegistered(TestInterface.class));
+
+        serviceManager.setProvider(this.testPlugin, TestInterface.class, new TestImplCow());
+        assertEquals("moo", reference.getUnchecked().bark());
+        assertSame(reference.get(), reference.get());
+        assertEquals(this.testPluginContainer, reference.getRegistration().get().getPlugin());
+
+        serviceManager.setProvider(this.testPlugin, TestInterface.class, new TestImplDog());
+        assertEquals("woof", reference.get().get().bark());
+        assertSame(reference, serviceManager.getReference(TestInterface.class));
+    }
+
+    @Test(expected = ProvisioningException.class)
+    public void testServiceReferenceUnregistered() {
+        new SimpleServiceManager(this.manager).getReference(TestInterface.class).getUnchecked();
+    }
+
     public interface TestInterface {
 
         String bark();
@@ -0,0 +1,152 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.service.ban;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.net.InetAddresses;
+import org.junit.Test;
+import org.spongepowered.api.profile.GameProfile;
+import org.spongepowered.api.util.ban.Ban;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import javax.annotation.Nullable;
+
+public class BanIndexTest {
+
+    private static Ban.Ip ipBan(String address, int prefixLength, @Nullable Instant expiration) {
+        final Ban.Ip ban = mock(Ban.Ip.class);
+        when(ban.getAddress()).thenReturn(InetAddresses.forString(address));
+        when(ban.getPrefixLength()).thenReturn(prefixLength);
+        when(ban.getExpirationDate()).thenReturn(Optional.ofNullable(expiration));
+        return ban;
+    }
+
+    private static Ban.Profile profileBan(UUID uniqueId, @Nullable Instant expiration) {
+        final GameProfile profile = mock(GameProfile.class);
+        when(profile.getUniqueId()).thenReturn(uniqueId);
+        final Ban.Profile ban = mock(Ban.Profile.class);
+        when(ban.getProfile()).thenReturn(profile);
+        when(ban.getExpirationDate()).thenReturn(Optional.ofNullable(expiration));
+        return ban;
+    }
+
+    @Test
+    public void testAddressRanges() {
+        final BanIndex index = new BanIndex();
+        final Ban.Ip range = ipBan("10.0.0.0", 8, null);
+        final Ban.Ip single = ipBan("10.1.2.3", 32, null);
+        final Ban.Ip ipv6 = ipBan("2001:db8::", 32, null);
+        index.add(range);
+        index.add(single);
+        index.add(ipv6);
+
+        assertEquals(Optional.of(single), index.getBanFor(InetAddresses.forString("10.1.2.3")));
+        assertEquals(Optional.of(range), index.getBanFor(InetAddresses.forString("10.1.2.4")));
+        assertEquals(Optional.of(ipv6), index.getBanFor(InetAddresses.forString("2001:db8::1")));
+        assertFalse(index.isBanned(InetAddresses.forString("11.0.0.1")));
+        assertFalse(index.isBanned(InetAddresses.forString("2001:db9::1")));
+
+        assertTrue(index.remove(range));
+        assertFalse(index.remove(range));
+        assertFalse(index.isBanned(InetAddresses.forString("10.1.2.4")));
+        assertTrue(index.isBanned(InetAddresses.forString("10.1.2.3")));
+        assertEquals(2, index.getIpBans().size());
+    }
+
+    @Test
+    public void testProfiles() {
+        final BanIndex index = new BanIndex();
+        final UUID banned = UUID.randomUUID();
+        final Ban.Profile ban = profileBan(banned, null);
+        index.add(ban);
+        // Grows the filter beyond its initial capacity
+        for (int i = 0; i < 2000; i++) {
+            index.add(profileBan(UUID.randomUUID(), null));
+        }
+
+        assertEquals(Optional.of(ban), index.getBanFor(banned));
+        assertFalse(index.getBanFor(UUID.randomUUID()).isPresent());
+        assertTrue(index.remove(ban));
+        assertFalse(index.getBanFor(banned).isPresent());
+    }
+
+    @Test
+    public void testAddAll() {
+        final BanIndex index = new BanIndex();
+        final List<Ban> bans = new ArrayList<>();
+        // Beyond the initial capacity of the filter
+        for (int i = 0; i < 3000; i++) {
+            bans.add(profileBan(UUID.randomUUID(), null));
+        }
+        final Ban.Ip ipBan = ipBan("10.0.0.0", 8, null);
+        bans.add(ipBan);
+        index.addAll(bans);
+
+        for (Ban ban : bans.subList(0, 3000)) {
+            final UUID uniqueId = ((Ban.Profile) ban).getProfile().getUniqueId();
+            assertEquals(Optional.of(ban), index.getBanFor(uniqueId));
+        }
+        assertEquals(Optional.of(ipBan), index.getBanFor(InetAddresses.forString("10.1.2.3")));
+        assertFalse(index.getBanFor(UUID.randomUUID()).isPresent());
+
+        // Bans added alongside the filter stay visible
+        final UUID added = UUID.randomUUID();
+        index.add(profileBan(added, null));
+        assertTrue(index.getBanFor(added).isPresent());
+    }
+
+    @Test
+    public void testExpiration() {
+        final BanIndex index = new BanIndex();
+        final Instant now = Instant.now();
+        final Ban.Ip expired = ipBan("192.168.0.1", 32, now.minusSeconds(1));
+        final Ban.Ip expiring = ipBan("192.168.0.2", 32, now.plusSeconds(60));
+        final Ban.Profile profile = profileBan(UUID.randomUUID(), now.plusSeconds(3600));
+        index.add(expired);
+        index.add(expiring);
+        index.add(profile);
+
+        // Expired bans are never returned
+        assertFalse(index.isBanned(InetAddresses.forString("192.168.0.1")));
+        assertEquals(ImmutableList.of(expired), index.expire(now));
+        assertEquals(ImmutableList.of(), index.expire(now.plusSeconds(30)));
+        assertEquals(ImmutableList.of(expiring), index.expire(now.plusSeconds(61)));
+        assertEquals(ImmutableList.of(profile), index.expire(now.plusSeconds(7200)));
+        assertTrue(index.getIpBans().isEmpty());
+        assertTrue(index.getProfileBans().isEmpty());
+    }
+
+}
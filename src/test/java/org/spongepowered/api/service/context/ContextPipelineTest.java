@@ -0,0 +1,163 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.service.context;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+
+import com.google.common.collect.ImmutableSet;
+import org.junit.Test;
+
+import java.util.Set;
+
+public class ContextPipelineTest {
+
+    @Test
+    public void testContextSetInterning() {
+        final ContextSet set = ContextSet.of(ImmutableSet.of(new Context("world", "a"), new Context("server", "b")));
+        assertSame(set, ContextSet.of(ImmutableSet.of(new Context("server", "b"), new Context("world", "a"))));
+        assertSame(ContextSet.empty(), ContextSet.of(ImmutableSet.of()));
+        assertEquals(ImmutableSet.of(new Context("world", "a"), new Context("server", "b")), set);
+        assertEquals(set, ImmutableSet.of(new Context("world", "a"), new Context("server", "b")));
+    }
+
+    @Test
+    public void testCachedCalculators() {
+        final ContextPipeline<TestContextual> pipeline = new ContextPipeline<>();
+        final CountingCalculator world = new CountingCalculator("world", InvalidationTrigger.WORLD_CHANGE);
+        final CountingCalculator tick = new CountingCalculator("tick", InvalidationTrigger.TICK);
+        pipeline.registerContextCalculator(world);
+        pipeline.registerContextCalculator(tick);
+
+        final TestContextual first = new TestContextual("first");
+        final TestContextual second = new TestContextual("second");
+        final ContextSet contexts = pipeline.getActiveContexts(first);
+        assertEquals(ImmutableSet.of(new Context("world", "0"), new Context("tick", "0")), contexts);
+        assertSame(contexts, pipeline.getActiveContexts(first));
+        pipeline.getActiveContexts(second);
+        assertEquals(2, world.count);
+        assertEquals(2, tick.count);
+
+        pipeline.onTick();
+        assertEquals(ImmutableSet.of(new Context("world", "0"), new Context("tick", "2")), pipeline.getActiveContexts(first));
+        assertEquals(2, world.count);
+        assertEquals(3, tick.count);
+
+        pipeline.onWorldChange(first);
+        assertEquals(ImmutableSet.of(new Context("world", "2"), new Context("tick", "2")), pipeline.getActiveContexts(first));
+        assertEquals(ImmutableSet.of(new Context("world", "1"), new Context("tick", "3")), pipeline.getActiveContexts(second));
+        assertEquals(3, world.count);
+        assertEquals(4, tick.count);
+
+        final ContextPipeline.Timings timings = pipeline.getTimings().get(0);
+        assertSame(world, timings.getCalculator());
+        assertEquals(3, timings.getCalculationCount());
+        assertEquals(2, timings.getCacheHitCount());
+    }
+
+    @Test
+    public void testInvalidationDuringCalculation() {
+        final ContextPipeline<TestContextual> pipeline = new ContextPipeline<>();
+        final CountingCalculator tick = new CountingCalculator("tick", InvalidationTrigger.TICK);
+        pipeline.registerContextCalculator(tick);
+
+        // The calculation is outdated by the time it completes
+        final TestContextual contextual = new TestContextual("test");
+        tick.during = () -> {
+            tick.during = () -> { };
+            pipeline.onTick();
+        };
+        assertEquals(ImmutableSet.of(new Context("tick", "0")), pipeline.getActiveContexts(contextual));
+        assertEquals(ImmutableSet.of(new Context("tick", "1")), pipeline.getActiveContexts(contextual));
+        assertEquals(ImmutableSet.of(new Context("tick", "1")), pipeline.getActiveContexts(contextual));
+        assertEquals(2, tick.count);
+    }
+
+    @Test
+    public void testUncachedCalculator() {
+        final ContextPipeline<TestContextual> pipeline = new ContextPipeline<>();
+        final CountingCalculator world = new CountingCalculator("world", InvalidationTrigger.WORLD_CHANGE);
+        final CountingCalculator uncached = new CountingCalculator("uncached");
+        pipeline.registerContextCalculator(world);
+        pipeline.registerContextCalculator(uncached);
+
+        final TestContextual contextual = new TestContextual("test");
+        pipeline.getActiveContexts(contextual);
+        assertEquals(ImmutableSet.of(new Context("world", "0"), new Context("uncached", "1")), pipeline.getActiveContexts(contextual));
+        assertEquals(1, world.count);
+        assertEquals(2, uncached.count);
+    }
+
+    private static final class TestContextual implements Contextual {
+
+        private final String identifier;
+
+        TestContextual(String identifier) {
+            this.identifier = identifier;
+        }
+
+        @Override
+        public String getIdentifier() {
+            return this.identifier;
+        }
+
+        @Override
+        public Set<Context> getActiveContexts() {
+            return ImmutableSet.of();
+        }
+
+    }
+
+    private static final class CountingCalculator implements ContextCalculator<TestContextual> {
+
+        private final String type;
+        private final Set<InvalidationTrigger> triggers;
+        int count;
+        Runnable during = () -> { };
+
+        CountingCalculator(String type, InvalidationTrigger... triggers) {
+            this.type = type;
+            this.triggers = ImmutableSet.copyOf(triggers);
+        }
+
+        @Override
+        public void accumulateContexts(TestContextual calculable, Set<Context> accumulator) {
+            accumulator.add(new Context(this.type, String.valueOf(this.count++)));
+            this.during.run();
+        }
+
+        @Override
+        public boolean matches(Context context, TestContextual subject) {
+            return context.getType().equals(this.type);
+        }
+
+        @Override
+        public Set<InvalidationTrigger> getInvalidationTriggers() {
+            return this.triggers;
+        }
+
+    }
+
+}
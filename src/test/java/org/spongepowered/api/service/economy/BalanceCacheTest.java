@@ -0,0 +1,151 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.service.economy;
+
+import static org.junit.Assert.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anySet;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
+import org.junit.Test;
+import org.spongepowered.api.event.economy.EconomyTransactionEvent;
+import org.spongepowered.api.service.context.Context;
+import org.spongepowered.api.service.economy.account.UniqueAccount;
+import org.spongepowered.api.service.economy.transaction.TransferResult;
+
+import java.math.BigDecimal;
+import java.util.Set;
+import java.util.UUID;
+
+public class BalanceCacheTest {
+
+    private static final Currency CURRENCY = mock(Currency.class);
+    private static final Set<Context> CONTEXTS = ImmutableSet.of();
+
+    private static UniqueAccount account(BigDecimal balance) {
+        final UniqueAccount account = mock(UniqueAccount.class);
+        when(account.getUniqueId()).thenReturn(UUID.randomUUID());
+        when(account.getBalance(eq(CURRENCY), anySet())).thenReturn(balance);
+        return account;
+    }
+
+    @Test
+    public void testReadThrough() {
+        final BalanceCache cache = new BalanceCache(10);
+        final UniqueAccount account = account(BigDecimal.TEN);
+        assertEquals(BigDecimal.TEN, cache.getBalance(account, CURRENCY, CONTEXTS));
+        assertEquals(BigDecimal.TEN, cache.getBalance(account, CURRENCY, CONTEXTS));
+        verify(account, times(1)).getBalance(CURRENCY, CONTEXTS);
+    }
+
+    @Test
+    public void testTransferInvalidatesBothAccounts() {
+        final BalanceCache cache = new BalanceCache(10);
+        final UniqueAccount from = account(BigDecimal.TEN);
+        final UniqueAccount to = account(BigDecimal.ONE);
+        final UniqueAccount other = account(BigDecimal.ZERO);
+        cache.getBalance(from, CURRENCY, CONTEXTS);
+        cache.getBalance(to, CURRENCY, CONTEXTS);
+        cache.getBalance(other, CURRENCY, CONTEXTS);
+
+        final TransferResult result = mock(TransferResult.class);
+        when(result.getAccount()).thenReturn(from);
+        when(result.getAccountTo()).thenReturn(to);
+        final EconomyTransactionEvent event = mock(EconomyTransactionEvent.class);
+        when(event.getTransactionResult()).thenReturn(result);
+        cache.onTransaction(event);
+
+        cache.getBalance(from, CURRENCY, CONTEXTS);
+        cache.getBalance(to, CURRENCY, CONTEXTS);
+        cache.getBalance(other, CURRENCY, CONTEXTS);
+        verify(from, times(2)).getBalance(CURRENCY, CONTEXTS);
+        verify(to, times(2)).getBalance(CURRENCY, CONTEXTS);
+        verify(other, times(1)).getBalance(CURRENCY, CONTEXTS);
+    }
+
+    @Test
+    public void testEviction() {
+        final BalanceCache cache = new BalanceCache(1);
+        final UniqueAccount first = account(BigDecimal.TEN);
+        final UniqueAccount second = account(BigDecimal.ONE);
+        cache.getBalance(first, CURRENCY, CONTEXTS);
+        cache.getBalance(second, CURRENCY, CONTEXTS);
+        cache.getBalance(first, CURRENCY, CONTEXTS);
+        verify(first, times(2)).getBalance(CURRENCY, CONTEXTS);
+    }
+
+    @Test
+    public void testGetBalancesLoadsMissing() {
+        final BalanceCache cache = new BalanceCache(10);
+        final UniqueAccount cached = account(BigDecimal.TEN);
+        cache.getBalance(cached, CURRENCY, CONTEXTS);
+        final UUID missing = UUID.randomUUID();
+        final UUID unknown = UUID.randomUUID();
+
+        final EconomyService service = mock(EconomyService.class);
+        when(service.getBalances(any(), eq(CURRENCY), anySet())).thenReturn(ImmutableMap.of(missing, BigDecimal.ONE));
+        assertEquals(ImmutableMap.of(cached.getUniqueId(), BigDecimal.TEN, missing, BigDecimal.ONE),
+                cache.getBalances(service, ImmutableList.of(cached.getUniqueId(), missing, unknown), CURRENCY, CONTEXTS));
+        verify(service).getBalances(ImmutableList.of(missing, unknown), CURRENCY, CONTEXTS);
+
+        // Only the account which does not exist has to be looked up again
+        cache.getBalances(service, ImmutableList.of(cached.getUniqueId(), missing, unknown), CURRENCY, CONTEXTS);
+        verify(service).getBalances(ImmutableList.of(unknown), CURRENCY, CONTEXTS);
+    }
+
+    @Test
+    public void testInvalidationDuringLoad() {
+        final BalanceCache cache = new BalanceCache(10);
+        final UniqueAccount invalidated = account(BigDecimal.TEN);
+        final UniqueAccount other = account(BigDecimal.ONE);
+        // Invalidates both accounts while the balance of the first is looked up
+        when(invalidated.getBalance(eq(CURRENCY), anySet())).thenAnswer(invocation -> {
+            cache.invalidate(invalidated);
+            cache.invalidate(other);
+            return BigDecimal.TEN;
+        });
+        when(other.getBalance(eq(CURRENCY), anySet())).thenAnswer(invocation -> {
+            cache.invalidate(invalidated);
+            return BigDecimal.ONE;
+        });
+
+        cache.getBalance(invalidated, CURRENCY, CONTEXTS);
+        cache.getBalance(invalidated, CURRENCY, CONTEXTS);
+        verify(invalidated, times(2)).getBalance(CURRENCY, CONTEXTS);
+
+        // Invalidating another account does not discard the balance
+        cache.getBalance(other, CURRENCY, CONTEXTS);
+        cache.getBalance(other, CURRENCY, CONTEXTS);
+        verify(other, times(1)).getBalance(CURRENCY, CONTEXTS);
+    }
+
+}
@@ -0,0 +1,167 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.service.economy.transaction;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableSet;
+import org.junit.Test;
+import org.spongepowered.api.event.cause.Cause;
+import org.spongepowered.api.service.economy.Currency;
+import org.spongepowered.api.service.economy.account.Account;
+
+import java.math.BigDecimal;
+import java.util.concurrent.ExecutionException;
+
+public class TransactionBatchTest {
+
+    private static final Currency CURRENCY = mock(Currency.class);
+    private static final Cause CAUSE = Cause.source("test").build();
+    private static final TransactionResult SUCCESS = result(ResultType.SUCCESS);
+    private static final TransferResult TRANSFER_SUCCESS = transferResult(ResultType.SUCCESS);
+
+    private static TransactionResult result(ResultType type) {
+        final TransactionResult result = mock(TransactionResult.class);
+        when(result.getResult()).thenReturn(type);
+        return result;
+    }
+
+    private static TransferResult transferResult(ResultType type) {
+        final TransferResult result = mock(TransferResult.class);
+        when(result.getResult()).thenReturn(type);
+        return result;
+    }
+
+    private static TransactionBatch.Builder builder() {
+        return TransactionBatch.builder().cause(CAUSE);
+    }
+
+    @Test
+    public void testSuccess() throws Exception {
+        final Account first = mock(Account.class);
+        final Account second = mock(Account.class);
+        when(first.deposit(eq(CURRENCY), any(), any(), any())).thenReturn(SUCCESS);
+        when(first.transfer(eq(second), eq(CURRENCY), any(), any(), any())).thenReturn(TRANSFER_SUCCESS);
+
+        final TransactionBatch batch = builder()
+                .deposit(first, CURRENCY, BigDecimal.TEN, ImmutableSet.of())
+                .transfer(first, second, CURRENCY, BigDecimal.ONE, ImmutableSet.of())
+                .build();
+        final TransactionBatch.Result result = batch.executeSequentially().get();
+        assertTrue(result.isSuccessful());
+        assertFalse(result.getFailure().isPresent());
+        assertEquals(2, result.getResults().size());
+        assertEquals(ImmutableList.of(), result.getRevertResults());
+        assertEquals(ImmutableList.of(), result.getRemainingEntries());
+    }
+
+    @Test
+    public void testFailureIsReverted() throws Exception {
+        final Account first = mock(Account.class);
+        final Account second = mock(Account.class);
+        when(first.deposit(eq(CURRENCY), any(), any(), any())).thenReturn(SUCCESS);
+        when(first.withdraw(eq(CURRENCY), any(), any(), any())).thenReturn(SUCCESS);
+        when(first.transfer(eq(second), eq(CURRENCY), any(), any(), any())).thenReturn(TRANSFER_SUCCESS);
+        when(second.transfer(eq(first), eq(CURRENCY), any(), any(), any())).thenReturn(TRANSFER_SUCCESS);
+        final TransactionResult failure = result(ResultType.ACCOUNT_NO_FUNDS);
+        when(second.withdraw(eq(CURRENCY), any(), any(), any())).thenReturn(failure);
+
+        final TransactionBatch batch = builder()
+                .deposit(first, CURRENCY, BigDecimal.TEN, ImmutableSet.of())
+                .transfer(first, second, CURRENCY, BigDecimal.ONE, ImmutableSet.of())
+                .withdraw(second, CURRENCY, BigDecimal.TEN, ImmutableSet.of())
+                .deposit(second, CURRENCY, BigDecimal.ONE, ImmutableSet.of())
+                .build();
+        final TransactionBatch.Result result = batch.executeSequentially().get();
+        assertFalse(result.isSuccessful());
+        assertSame(failure, result.getFailure().get());
+        assertEquals(3, result.getResults().size());
+        assertEquals(2, result.getRevertResults().size());
+        assertEquals(ImmutableList.of(), result.getRemainingEntries());
+
+        // The inverse transactions, the last entry is never attempted
+        verify(second).transfer(first, CURRENCY, BigDecimal.ONE, CAUSE, ImmutableSet.of());
+        verify(first).withdraw(CURRENCY, BigDecimal.TEN, CAUSE, ImmutableSet.of());
+        verify(second, never()).deposit(any(), any(), any(), any());
+    }
+
+    @Test
+    public void testFailedRevert() throws Exception {
+        final Account first = mock(Account.class);
+        final Account second = mock(Account.class);
+        when(first.transfer(eq(second), eq(CURRENCY), any(), any(), any())).thenReturn(TRANSFER_SUCCESS);
+        // The currency was spent before the transfer could be reverted
+        final TransferResult noFunds = transferResult(ResultType.ACCOUNT_NO_FUNDS);
+        when(second.transfer(eq(first), eq(CURRENCY), any(), any(), any())).thenReturn(noFunds);
+        final TransactionResult failure = result(ResultType.FAILED);
+        when(second.withdraw(eq(CURRENCY), any(), any(), any())).thenReturn(failure);
+
+        final TransactionBatch batch = builder()
+                .transfer(first, second, CURRENCY, BigDecimal.ONE, ImmutableSet.of())
+                .withdraw(second, CURRENCY, BigDecimal.TEN, ImmutableSet.of())
+                .build();
+        final TransactionBatch.Result result = batch.executeSequentially().get();
+        assertFalse(result.isSuccessful());
+        assertEquals(ResultType.ACCOUNT_NO_FUNDS, result.getRevertResults().get(0).getResult());
+        assertEquals(ImmutableList.of(batch.getEntries().get(0)), result.getRemainingEntries());
+    }
+
+    @Test
+    public void testExceptionIsReverted() throws Exception {
+        final Account first = mock(Account.class);
+        final Account second = mock(Account.class);
+        when(first.deposit(eq(CURRENCY), any(), any(), any())).thenReturn(SUCCESS);
+        final TransactionResult failure = result(ResultType.FAILED);
+        when(first.withdraw(eq(CURRENCY), any(), any(), any())).thenReturn(failure);
+        final IllegalStateException exception = new IllegalStateException();
+        when(second.deposit(eq(CURRENCY), any(), any(), any())).thenThrow(exception);
+
+        final TransactionBatch batch = builder()
+                .deposit(first, CURRENCY, BigDecimal.TEN, ImmutableSet.of())
+                .deposit(second, CURRENCY, BigDecimal.TEN, ImmutableSet.of())
+                .build();
+        try {
+            batch.executeSequentially().get();
+            fail();
+        } catch (ExecutionException e) {
+            assertSame(exception, e.getCause());
+            // The revert of the first deposit failed as well
+            assertEquals(1, exception.getSuppressed().length);
+        }
+        verify(first).withdraw(CURRENCY, BigDecimal.TEN, CAUSE, ImmutableSet.of());
+    }
+
+}
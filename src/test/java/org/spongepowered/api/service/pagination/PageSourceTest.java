@@ -0,0 +1,79 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.service.pagination;
+
+import static org.junit.Assert.assertEquals;
+
+import com.google.common.collect.ImmutableList;
+import org.junit.Test;
+import org.spongepowered.api.text.Text;
+
+import java.util.List;
+import java.util.OptionalInt;
+
+public class PageSourceTest {
+
+    private static final List<Text> ENTRIES = ImmutableList.of(Text.of("a"), Text.of("b"), Text.of("c"));
+
+    @Test
+    public void testPages() {
+        final PageSource source = PageSource.of(ENTRIES);
+        assertEquals(OptionalInt.of(3), source.getSize());
+        assertEquals(ENTRIES.subList(0, 2), source.getEntries(0, 2));
+        assertEquals(ENTRIES.subList(2, 3), source.getEntries(2, 2));
+        assertEquals(ImmutableList.of(), source.getEntries(3, 2));
+        assertEquals(ImmutableList.of(), source.getEntries(5, 2));
+        assertEquals(ImmutableList.of(), source.getEntries(1, 0));
+    }
+
+    @Test
+    public void testLargeLimit() {
+        final PageSource source = PageSource.of(ENTRIES);
+        assertEquals(ENTRIES.subList(1, 3), source.getEntries(1, Integer.MAX_VALUE));
+        assertEquals(ImmutableList.of(), source.getEntries(Integer.MAX_VALUE, Integer.MAX_VALUE));
+    }
+
+    @Test
+    public void testEntriesCreatedOnDemand() {
+        final int[] created = new int[1];
+        final PageSource source = PageSource.of(Integer.MAX_VALUE, i -> {
+            created[0]++;
+            return Text.of(i);
+        });
+        assertEquals(ImmutableList.of(Text.of(10), Text.of(11)), source.getEntries(10, 2));
+        assertEquals(2, created[0]);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testNegativeOffset() {
+        PageSource.of(ENTRIES).getEntries(-1, 2);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testNegativeLimit() {
+        PageSource.of(ENTRIES).getEntries(0, -1);
+    }
+
+}
@@ -0,0 +1,215 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.service.permission;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
+import org.junit.Test;
+import org.spongepowered.api.service.context.Context;
+import org.spongepowered.api.util.Tristate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+public class MemorySubjectDataTest {
+
+    private static final Set<Context> CONTEXTS = ImmutableSet.of(new Context("world", "test"));
+
+    @Test
+    public void testResolvedPermissionsAreInvalidated() {
+        final MemorySubjectData data = new MemorySubjectData(mock(PermissionService.class));
+        data.setPermission(CONTEXTS, "generate.rainbow", Tristate.TRUE);
+        assertEquals(Tristate.TRUE, data.resolvePermissionValue(CONTEXTS, "generate.rainbow.double"));
+        assertEquals(Tristate.UNDEFINED, data.resolvePermissionValue(ImmutableSet.of(), "generate.rainbow.double"));
+
+        data.setPermission(CONTEXTS, "generate.rainbow", Tristate.FALSE);
+        assertEquals(Tristate.FALSE, data.resolvePermissionValue(CONTEXTS, "generate.rainbow.double"));
+
+        data.clearPermissions(CONTEXTS);
+        assertEquals(Tristate.UNDEFINED, data.resolvePermissionValue(CONTEXTS, "generate.rainbow.double"));
+    }
+
+    @Test
+    public void testParentPermissions() {
+        final PermissionService service = mock(PermissionService.class);
+        final SubjectCollection collection = mock(SubjectCollection.class);
+        final Subject parent = mock(Subject.class);
+        when(service.getSubjects("groups")).thenReturn(collection);
+        when(collection.getIdentifier()).thenReturn("groups");
+        when(collection.get("admin")).thenReturn(parent);
+        when(parent.getContainingCollection()).thenReturn(collection);
+        when(parent.getIdentifier()).thenReturn("admin");
+        when(parent.getPermissionValue(any(), any(PermissionNode.class))).thenReturn(Tristate.TRUE);
+
+        final MemorySubjectData data = new MemorySubjectData(service);
+        data.addParent(CONTEXTS, parent);
+        assertEquals(Tristate.TRUE, data.resolvePermissionValue(CONTEXTS, "generate.rainbow"));
+
+        // Changes to subject data that is not in memory need an explicit invalidation
+        when(parent.getPermissionValue(any(), any(PermissionNode.class))).thenReturn(Tristate.FALSE);
+        assertEquals(Tristate.TRUE, data.resolvePermissionValue(CONTEXTS, "generate.rainbow"));
+        MemorySubjectData.invalidateResolvedPermissions();
+        assertEquals(Tristate.FALSE, data.resolvePermissionValue(CONTEXTS, "generate.rainbow"));
+
+        // Own permissions take precedence over the parents
+        data.setPermission(CONTEXTS, "generate", Tristate.TRUE);
+        assertEquals(Tristate.TRUE, data.resolvePermissionValue(CONTEXTS, "generate.rainbow"));
+    }
+
+    @Test
+    public void testParentChangesInvalidateChildren() {
+        final PermissionService service = mock(PermissionService.class);
+        final SubjectCollection collection = mock(SubjectCollection.class);
+        final Subject parent = mock(Subject.class);
+        final MemorySubjectData parentData = new MemorySubjectData(service);
+        final int[] calls = {0};
+        when(collection.getIdentifier()).thenReturn("groups");
+        when(service.getSubjects("groups")).thenReturn(collection);
+        when(collection.get("admin")).thenReturn(parent);
+        when(parent.getContainingCollection()).thenReturn(collection);
+        when(parent.getIdentifier()).thenReturn("admin");
+        when(parent.getSubjectData()).thenReturn(parentData);
+        when(parent.getPermissionValue(any(), any(PermissionNode.class))).then(invocation -> {
+            calls[0]++;
+            return parentData.resolvePermissionValue(invocation.getArgument(0), (PermissionNode) invocation.getArgument(1));
+        });
+
+        final MemorySubjectData data = new MemorySubjectData(service);
+        data.addParent(CONTEXTS, parent);
+        assertEquals(Tristate.UNDEFINED, data.resolvePermissionValue(CONTEXTS, "generate"));
+        assertEquals(1, calls[0]);
+
+        // Changes of unrelated subject data keep the resolved values
+        new MemorySubjectData(service).setPermission(CONTEXTS, "generate", Tristate.TRUE);
+        assertEquals(Tristate.UNDEFINED, data.resolvePermissionValue(CONTEXTS, "generate"));
+        assertEquals(1, calls[0]);
+
+        parentData.setPermission(CONTEXTS, "generate", Tristate.TRUE);
+        assertEquals(Tristate.TRUE, data.resolvePermissionValue(CONTEXTS, "generate"));
+        assertEquals(2, calls[0]);
+    }
+
+    @Test
+    public void testPermissionIndex() {
+        final PermissionService service = mock(PermissionService.class);
+        final PermissionIndex index = new PermissionIndex();
+        final Subject first = mock(Subject.class);
+        final Subject second = mock(Subject.class);
+        final MemorySubjectData firstData = new MemorySubjectData(service, first, index);
+        final MemorySubjectData secondData = new MemorySubjectData(service, second, index);
+
+        firstData.setPermission(CONTEXTS, "generate", Tristate.TRUE);
+        secondData.setPermission(CONTEXTS, "generate", Tristate.TRUE);
+        secondData.setPermission(CONTEXTS, "generate.rainbow", Tristate.FALSE);
+        assertEquals(ImmutableMap.of(first, true, second, false), index.getAllWithPermission(CONTEXTS, "generate.rainbow.double"));
+        assertEquals(ImmutableMap.of(first, true, second, true), index.getAllWithPermission(CONTEXTS, "generate.sun"));
+        assertEquals(ImmutableMap.of(), index.getAllWithPermission(ImmutableSet.of(), "generate"));
+        assertEquals(ImmutableMap.of(), index.getAllWithPermission(CONTEXTS, "other"));
+
+        secondData.setPermission(CONTEXTS, "generate.rainbow", Tristate.UNDEFINED);
+        assertEquals(ImmutableMap.of(first, true, second, true), index.getAllWithPermission(CONTEXTS, "generate.rainbow"));
+
+        firstData.clearPermissions();
+        secondData.clearPermissions(CONTEXTS);
+        assertEquals(ImmutableMap.of(), index.getAllWithPermission(CONTEXTS, "generate"));
+        assertTrue(index.isEmpty());
+    }
+
+    @Test
+    public void testPermissionIndexMatchesTree() {
+        final PermissionIndex index = new PermissionIndex();
+        final Subject subject = mock(Subject.class);
+        final MemorySubjectData data = new MemorySubjectData(mock(PermissionService.class), subject, index);
+
+        data.setPermission(CONTEXTS, "generate", Tristate.TRUE);
+        data.setPermission(CONTEXTS, "generate.rainbow", Tristate.FALSE);
+        for (String permission : new String[] {"generate", "generate.sun", "generate.rainbow", "generate.rainbow.double"}) {
+            assertEquals(data.getNodeTree(CONTEXTS).get(permission).asBoolean(),
+                    index.getAllWithPermission(CONTEXTS, permission).get(subject));
+        }
+        assertEquals(ImmutableMap.of(subject, true), index.getAllWithPermission(CONTEXTS, "generate.sun"));
+        assertEquals(ImmutableMap.of(subject, false), index.getAllWithPermission(CONTEXTS, "generate.rainbow.double"));
+
+        data.setPermission(CONTEXTS, "generate", Tristate.UNDEFINED);
+        assertEquals(ImmutableMap.of(), index.getAllWithPermission(CONTEXTS, "generate.sun"));
+        assertEquals(ImmutableMap.of(subject, false), index.getAllWithPermission(CONTEXTS, "generate.rainbow"));
+    }
+
+    @Test
+    public void testPermissionIndexConcurrentUpdates() throws Exception {
+        final PermissionIndex index = new PermissionIndex();
+        final Subject subject = mock(Subject.class);
+        final MemorySubjectData data = new MemorySubjectData(mock(PermissionService.class), subject, index);
+        final String[] permissions = {"first", "second", "third"};
+        final Tristate[] values = Tristate.values();
+
+        final int threads = 4;
+        final ExecutorService executor = Executors.newFixedThreadPool(threads);
+        final CountDownLatch start = new CountDownLatch(1);
+        final List<Future<?>> futures = new ArrayList<>();
+        for (int t = 0; t < threads; t++) {
+            final Random random = new Random(t);
+            futures.add(executor.submit(() -> {
+                start.await();
+                for (int i = 0; i < 5000; i++) {
+                    if (random.nextInt(50) == 0) {
+                        data.clearPermissions(CONTEXTS);
+                    } else {
+                        data.setPermission(CONTEXTS, permissions[random.nextInt(permissions.length)],
+                                values[random.nextInt(values.length)]);
+                    }
+                }
+                return null;
+            }));
+        }
+        start.countDown();
+        for (Future<?> future : futures) {
+            future.get();
+        }
+        executor.shutdown();
+
+        // The index has to match the permissions the updates ended with
+        final Map<String, Boolean> expected = data.getPermissions(CONTEXTS);
+        for (String permission : permissions) {
+            assertEquals(expected.get(permission), index.getAllWithPermission(CONTEXTS, permission).get(subject));
+        }
+        data.clearPermissions();
+        assertTrue(index.isEmpty());
+    }
+
+}
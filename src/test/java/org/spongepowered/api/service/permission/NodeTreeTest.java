@@ -25,7 +25,10 @@
 package org.spongepowered.api.service.permission;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
 
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
 import org.junit.Test;
 import org.spongepowered.api.util.Tristate;
 
@@ -62,6 +65,20 @@ public void testWithValue() throws Exception {
         assertEquals(Tristate.TRUE, newTree.get("generate.thunderstorm.explosive"));
     }
 
+    @Test
+    public void testWithValueKeepsParentValues() {
+        final NodeTree tree = NodeTree.of(ImmutableMap.of("generate", true))
+                .withValue("generate.sunset", Tristate.FALSE);
+        assertEquals(ImmutableMap.of("generate", true, "generate.sunset", false), tree.asMap());
+        assertEquals(Tristate.TRUE, tree.get("generate"));
+        assertEquals(Tristate.TRUE, tree.get("generate.rainbow"));
+        assertEquals(Tristate.FALSE, tree.get("generate.sunset.east"));
+
+        final NodeTree removed = tree.withValue("generate.sunset", Tristate.UNDEFINED);
+        assertEquals(ImmutableMap.of("generate", true), removed.asMap());
+        assertEquals(Tristate.TRUE, removed.get("generate.sunset"));
+    }
+
     @Test
     public void testWithAll() throws Exception {
         final Map<String, Boolean> testPermissions = new HashMap<>();
@@ -83,7 +100,9 @@ public void testWithAll() throws Exception {
         assertEquals(Tristate.TRUE, newTree.get("generate.sunset.red"));
 
         assertEquals(Tristate.FALSE, oldTree.get("generate.thunderstorm.explosive"));
-        assertEquals(Tristate.UNDEFINED, newTree.get("generate.thunderstorm.explosive"));
+        // Removing the node falls back to the value of generate
+        assertEquals(Tristate.TRUE, newTree.get("generate.thunderstorm.explosive"));
+        assertEquals(Tristate.TRUE, newTree.get("generate"));
 
         assertEquals(Tristate.UNDEFINED, oldTree.get("something.new"));
         assertEquals(Tristate.FALSE, newTree.get("something.new"));
@@ -107,4 +126,20 @@ public void testCreateFromValues() throws Exception {
         assertEquals(Tristate.FALSE, nodes.get("generate.thunderstorm.explosive"));
         assertEquals(Tristate.UNDEFINED, nodes.get("random.perm"));
     }
+
+    @Test
+    public void testPermissionNode() {
+        final Map<String, Boolean> testPermissions = new HashMap<>();
+        testPermissions.put("generate.rainbow", true);
+        testPermissions.put("generate.sunset", false);
+
+        NodeTree nodes = NodeTree.of(testPermissions);
+
+        final PermissionNode node = PermissionNode.of("Generate.Rainbow.Double");
+        assertSame(node, PermissionNode.of("generate.rainbow.double"));
+        assertEquals(ImmutableList.of("generate", "rainbow", "double"), node.getParts());
+        assertEquals(Tristate.TRUE, nodes.get(node));
+        assertEquals(Tristate.FALSE, nodes.get(PermissionNode.of("generate.sunset")));
+        assertEquals(Tristate.UNDEFINED, nodes.get(PermissionNode.of("generate")));
+    }
 }
@@ -0,0 +1,127 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.service.sql;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import javax.sql.DataSource;
+
+public class SqlExecutorTest {
+
+    private ScheduledExecutorService pool;
+    private Connection connection;
+    private PreparedStatement statement;
+    private SqlExecutor executor;
+
+    @Before
+    public void setup() throws Exception {
+        this.pool = Executors.newScheduledThreadPool(2);
+        final DataSource dataSource = mock(DataSource.class);
+        this.connection = mock(Connection.class);
+        this.statement = mock(PreparedStatement.class);
+        when(dataSource.getConnection()).thenReturn(this.connection);
+        when(this.connection.prepareStatement("statement")).thenReturn(this.statement);
+        when(this.connection.getAutoCommit()).thenReturn(true);
+        this.executor = new SqlExecutor(dataSource, this.pool);
+    }
+
+    @After
+    public void shutdown() {
+        this.pool.shutdownNow();
+    }
+
+    @Test
+    public void testQuery() throws Exception {
+        final ResultSet resultSet = mock(ResultSet.class);
+        when(this.statement.executeQuery()).thenReturn(resultSet);
+        when(resultSet.getInt(1)).thenReturn(42);
+
+        final int result = this.executor.query("statement", statement -> statement.setString(1, "test"), rs -> rs.getInt(1)).get();
+        assertEquals(42, result);
+        verify(this.statement).setString(1, "test");
+        verify(this.connection).close();
+        assertEquals(1, this.executor.getMetrics().getStatementCount());
+        assertEquals(0, this.executor.getMetrics().getFailureCount());
+    }
+
+    @Test
+    public void testBatchFlushOnSize() throws Exception {
+        when(this.statement.executeBatch()).thenReturn(new int[] {1, 2});
+
+        final SqlExecutor.BatchWriter writer = this.executor.batchWriter("statement", 2, 1, TimeUnit.HOURS);
+        final CompletableFuture<Integer> first = writer.add(statement -> statement.setInt(1, 1));
+        assertFalse(first.isDone());
+        final CompletableFuture<Integer> second = writer.add(statement -> statement.setInt(1, 2));
+        assertEquals(1, (int) first.get());
+        assertEquals(2, (int) second.get());
+
+        verify(this.statement, times(2)).addBatch();
+        verify(this.connection).commit();
+        verify(this.connection).setAutoCommit(true);
+        writer.close();
+        assertEquals(1, this.executor.getMetrics().getStatementCount());
+    }
+
+    @Test
+    public void testBatchFlushOnInterval() throws Exception {
+        when(this.statement.executeBatch()).thenReturn(new int[] {1});
+
+        final SqlExecutor.BatchWriter writer = this.executor.batchWriter("statement", 100, 10, TimeUnit.MILLISECONDS);
+        assertEquals(1, (int) writer.add(statement -> statement.setInt(1, 1)).get(5, TimeUnit.SECONDS));
+        writer.close();
+    }
+
+    @Test
+    public void testBatchWithMissingCounts() throws Exception {
+        when(this.statement.executeBatch()).thenReturn(new int[] {1});
+
+        final SqlExecutor.BatchWriter writer = this.executor.batchWriter("statement", 100, 1, TimeUnit.HOURS);
+        final CompletableFuture<Integer> first = writer.add(statement -> statement.setInt(1, 1));
+        final CompletableFuture<Integer> second = writer.add(statement -> statement.setInt(1, 2));
+        writer.flush().get(5, TimeUnit.SECONDS);
+        assertEquals(1, (int) first.get());
+        assertEquals(Statement.SUCCESS_NO_INFO, (int) second.get());
+        writer.close();
+    }
+
+}
@@ -0,0 +1,82 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.service.user;
+
+import static org.junit.Assert.assertEquals;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableSet;
+import org.junit.Test;
+import org.spongepowered.api.profile.GameProfile;
+
+import java.util.Optional;
+import java.util.UUID;
+
+public class ProfileNameIndexTest {
+
+    private static GameProfile profile(String name) {
+        final GameProfile profile = mock(GameProfile.class);
+        when(profile.getUniqueId()).thenReturn(UUID.randomUUID());
+        when(profile.getName()).thenReturn(Optional.of(name));
+        return profile;
+    }
+
+    @Test
+    public void testMatch() {
+        final ProfileNameIndex index = new ProfileNameIndex();
+        final GameProfile notch = profile("Notch");
+        final GameProfile notchy = profile("notchy");
+        final GameProfile jeb = profile("jeb_");
+        index.add(notch);
+        index.add(notchy);
+        index.add(jeb);
+
+        assertEquals(ImmutableList.of(notch, notchy), ImmutableList.copyOf(index.match("NOT")));
+        assertEquals(ImmutableList.of(notch), ImmutableList.copyOf(index.match("not", 1)));
+        assertEquals(ImmutableList.of(jeb), ImmutableList.copyOf(index.match("jeb_")));
+        assertEquals(ImmutableList.of(), ImmutableList.copyOf(index.match("notchyy")));
+        assertEquals(ImmutableSet.of(notch, notchy, jeb), ImmutableSet.copyOf(index.match("")));
+    }
+
+    @Test
+    public void testRenameAndRemove() {
+        final ProfileNameIndex index = new ProfileNameIndex();
+        final GameProfile profile = profile("Notch");
+        index.add(profile);
+        when(profile.getName()).thenReturn(Optional.of("Dinnerbone"));
+        index.add(profile);
+
+        assertEquals(1, index.size());
+        assertEquals(ImmutableList.of(), ImmutableList.copyOf(index.match("notch")));
+        assertEquals(ImmutableList.of(profile), ImmutableList.copyOf(index.match("dinner")));
+
+        index.remove(profile.getUniqueId());
+        assertEquals(0, index.size());
+        assertEquals(ImmutableList.of(), ImmutableList.copyOf(index.match("")));
+    }
+
+}